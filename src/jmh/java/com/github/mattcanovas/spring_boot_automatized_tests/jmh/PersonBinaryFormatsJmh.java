@@ -0,0 +1,111 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.jmh;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonBinaryFormatsJmh {
+
+    public enum Format {
+        JSON,
+        CBOR,
+        SMILE;
+
+        ObjectMapper mapper() {
+            return switch (this) {
+                case JSON -> Jackson2ObjectMapperBuilder.json().build();
+                case CBOR -> Jackson2ObjectMapperBuilder.cbor().build();
+                case SMILE -> Jackson2ObjectMapperBuilder.smile().build();
+            };
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class PersonListState {
+
+        @Param({"JSON", "CBOR", "SMILE"})
+        public Format format;
+
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        ObjectWriter writer;
+
+        ObjectReader reader;
+
+        List<Person> persons;
+
+        byte[] payload;
+
+        @Setup
+        public void setup() throws IOException {
+            ObjectMapper mapper = this.format.mapper();
+            JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, Person.class);
+            this.writer = mapper.writerFor(listType);
+            this.reader = mapper.readerFor(listType);
+            this.persons = new ArrayList<>(this.size);
+            for (int index = 1; index <= this.size; index++) {
+                this.persons.add(createPerson(index));
+            }
+            this.payload = this.writer.writeValueAsBytes(this.persons);
+
+            // JMH has no notion of payload size, so it is printed next to the timings of each parameter combination.
+            System.out.printf("%n%s size=%d payload=%d B gzip=%d B%n", this.format, this.size, this.payload.length,
+                    gzip(this.payload).length);
+        }
+
+    }
+
+    @Benchmark
+    public byte[] encodePersonList(PersonListState state) throws IOException {
+        return state.writer.writeValueAsBytes(state.persons);
+    }
+
+    @Benchmark
+    public List<Person> decodePersonList(PersonListState state) throws IOException {
+        return state.reader.readValue(state.payload);
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(payload.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(payload);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static Person createPerson(long id) {
+        Person person = new Person("First" + id, "Last" + id, "jmh-" + id + "@gmail.com");
+        person.setId(id);
+        person.setVersion(0L);
+        return person;
+    }
+
+}
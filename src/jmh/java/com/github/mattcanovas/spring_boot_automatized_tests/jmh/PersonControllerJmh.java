@@ -0,0 +1,115 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.jmh;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mattcanovas.spring_boot_automatized_tests.controllers.PersonController;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPage;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonExportService;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// The service is replaced by an in-memory stub so only routing, argument binding,
+// header handling and JSON conversion of the controller are measured.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonControllerJmh {
+
+    private static final int PAGE_SIZE = 50;
+
+    private MockMvc mockMvc;
+
+    private String personJson;
+
+    @Setup
+    public void setup() throws Exception {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        Person person = createPerson(1L);
+        List<Person> page = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            page.add(createPerson(id));
+        }
+
+        PersonService service = new PersonService(null, null, new SimpleMeterRegistry(), new StandardEnvironment()) {
+
+            @Override
+            public Person findById(Long id) {
+                return person;
+            }
+
+            @Override
+            public PersonPage findPage(Long after, int limit) {
+                return new PersonPage(page, (long) PAGE_SIZE);
+            }
+
+            @Override
+            public Person create(Person newPerson) {
+                newPerson.setId(person.getId());
+                newPerson.setVersion(person.getVersion());
+                return newPerson;
+            }
+
+        };
+        PersonExportService exportService = new PersonExportService(null, null, mapper);
+
+        this.mockMvc = MockMvcBuilders.standaloneSetup(new PersonController(service, exportService, null))
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(mapper))
+                .build();
+        this.personJson = mapper.writeValueAsString(new Person("Peter", "Parker", "peter.parker@gmail.com"));
+    }
+
+    @Benchmark
+    public MvcResult findById() throws Exception {
+        return this.mockMvc.perform(get("/v1/person/{id}", 1L)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult findPage() throws Exception {
+        return this.mockMvc.perform(get("/v1/person").param("limit", String.valueOf(PAGE_SIZE))).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult create() throws Exception {
+        return this.mockMvc.perform(post("/v1/person")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.personJson))
+                .andReturn();
+    }
+
+    private static Person createPerson(long id) {
+        Person person = new Person("First" + id, "Last" + id, "jmh-" + id + "@gmail.com");
+        person.setId(id);
+        person.setVersion(0L);
+        return person;
+    }
+
+}
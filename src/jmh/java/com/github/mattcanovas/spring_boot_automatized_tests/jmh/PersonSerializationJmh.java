@@ -0,0 +1,86 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonSerializationJmh {
+
+    @State(Scope.Benchmark)
+    public static class PersonState {
+
+        ObjectWriter writer;
+
+        Person person;
+
+        @Setup
+        public void setup() {
+            this.writer = Jackson2ObjectMapperBuilder.json().build().writerFor(Person.class);
+            this.person = createPerson(1);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class PersonListState {
+
+        @Param({"1", "10", "100", "1000"})
+        public int size;
+
+        ObjectWriter writer;
+
+        List<Person> persons;
+
+        @Setup
+        public void setup() {
+            ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+            this.writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, Person.class));
+            this.persons = new ArrayList<>(this.size);
+            for (int index = 1; index <= this.size; index++) {
+                this.persons.add(createPerson(index));
+            }
+        }
+
+    }
+
+    @Benchmark
+    public byte[] serializePerson(PersonState state) throws JsonProcessingException {
+        return state.writer.writeValueAsBytes(state.person);
+    }
+
+    @Benchmark
+    public byte[] serializePersonList(PersonListState state) throws JsonProcessingException {
+        return state.writer.writeValueAsBytes(state.persons);
+    }
+
+    private static Person createPerson(long id) {
+        Person person = new Person("First" + id, "Last" + id, "jmh-" + id + "@gmail.com");
+        person.setId(id);
+        person.setVersion(0L);
+        return person;
+    }
+
+}
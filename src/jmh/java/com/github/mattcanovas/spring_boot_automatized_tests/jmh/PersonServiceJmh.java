@@ -0,0 +1,94 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.SprintBootAutomatizedTestsApplication;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonBatchResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonServiceJmh {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    @Param({"caffeine", "none"})
+    public String cacheType;
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private PersonService service;
+
+    private long[] ids;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.context = new SpringApplicationBuilder(SprintBootAutomatizedTestsApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                        "--spring.cache.type=" + this.cacheType,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.github.mattcanovas=WARN");
+        this.service = this.context.getBean(PersonService.class);
+
+        List<Long> savedIds = new ArrayList<>(this.rows);
+        for (int from = 0; from < this.rows; from += SEED_BATCH_SIZE) {
+            List<Person> persons = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int index = from; index < Math.min(this.rows, from + SEED_BATCH_SIZE); index++) {
+                persons.add(new Person("First" + index, "Last" + index, "jmh-" + index + "@gmail.com"));
+            }
+            this.service.createAll(persons).stream()
+                    .map(PersonBatchResult::person)
+                    .forEach(person -> savedIds.add(person.getId()));
+        }
+        this.ids = savedIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Person findById() {
+        long id = this.ids[this.next++ % this.ids.length];
+        return this.service.findById(id);
+    }
+
+    @Benchmark
+    public List<Person> findAll() {
+        return this.service.findAll();
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.configurations;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Caching wraps the transaction advice: a cache hit never opens a transaction nor borrows a connection,
+// and @CachePut/@CacheEvict only run once the transaction has committed.
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfiguration {
+
+    public static final String PERSONS_CACHE = "persons";
+
+}
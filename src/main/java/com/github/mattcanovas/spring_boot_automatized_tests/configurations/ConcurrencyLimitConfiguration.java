@@ -0,0 +1,47 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.configurations;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.filters.GradientConcurrencyLimit;
+import com.github.mattcanovas.spring_boot_automatized_tests.filters.PersonConcurrencyLimitFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = ConcurrencyLimitConfiguration.ENABLED_PROPERTY, havingValue = "true")
+public class ConcurrencyLimitConfiguration {
+
+    public static final String ENABLED_PROPERTY = "person.concurrency-limit.enabled";
+
+    private static final String PREFIX = "person.concurrency-limit.";
+
+    @Bean
+    public FilterRegistrationBean<PersonConcurrencyLimitFilter> personConcurrencyLimitFilter(Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        PersonConcurrencyLimitFilter filter = new PersonConcurrencyLimitFilter(
+                limit(environment, "read", 50, 8, 400),
+                limit(environment, "write", 20, 4, 100),
+                environment.getProperty(PREFIX + "retry-after-seconds", Integer.class, 1),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        FilterRegistrationBean<PersonConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter,
+                "/v1/person", "/v1/person/*");
+        // Behind the observation filter, so rejected requests still show up in http.server.requests.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private static GradientConcurrencyLimit limit(Environment environment, String kind, int initial, int min, int max) {
+        return new GradientConcurrencyLimit(
+                environment.getProperty(PREFIX + kind + ".initial", Integer.class, initial),
+                environment.getProperty(PREFIX + kind + ".min", Integer.class, min),
+                environment.getProperty(PREFIX + kind + ".max", Integer.class, max));
+    }
+
+}
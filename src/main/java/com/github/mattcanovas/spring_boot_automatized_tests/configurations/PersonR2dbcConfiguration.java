@@ -0,0 +1,64 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.configurations;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+// The R2DBC ConnectionFactory is deliberately not exposed as a bean: Spring Boot would otherwise
+// register a reactive transaction manager next to the JPA one used by the v1 API.
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(PersonR2dbcConfiguration.URL_PROPERTY)
+public class PersonR2dbcConfiguration extends AbstractR2dbcConfiguration implements DisposableBean {
+
+    public static final String URL_PROPERTY = "person.r2dbc.url";
+
+    private final Environment environment;
+
+    private ConnectionPool connectionPool;
+
+    public PersonR2dbcConfiguration(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public synchronized ConnectionFactory connectionFactory() {
+        if (this.connectionPool == null) {
+            ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions
+                    .parse(this.environment.getRequiredProperty(URL_PROPERTY))
+                    .mutate();
+            String username = this.environment.getProperty("person.r2dbc.username");
+            if (username != null) {
+                options.option(ConnectionFactoryOptions.USER, username);
+            }
+            String password = this.environment.getProperty("person.r2dbc.password");
+            if (password != null) {
+                options.option(ConnectionFactoryOptions.PASSWORD, password);
+            }
+            this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                    .builder(ConnectionFactories.get(options.build()))
+                    .initialSize(this.environment.getProperty("person.r2dbc.pool.initial-size", Integer.class, 10))
+                    .maxSize(this.environment.getProperty("person.r2dbc.pool.max-size", Integer.class, 50))
+                    .maxIdleTime(Duration.ofMinutes(30))
+                    .build());
+        }
+        return this.connectionPool;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (this.connectionPool != null) {
+            this.connectionPool.dispose();
+        }
+    }
+
+}
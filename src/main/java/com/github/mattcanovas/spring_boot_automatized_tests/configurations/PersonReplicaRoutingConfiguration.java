@@ -0,0 +1,95 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.configurations;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.filters.PersonReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+
+// Only the routing DataSource is exposed as a bean: the two pools behind it stay private so that Flyway,
+// JPA and the DataSource post processors all see a single DataSource.
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(PersonReplicaRoutingConfiguration.REPLICA_URL_PROPERTY)
+public class PersonReplicaRoutingConfiguration implements DisposableBean {
+
+    public static final String REPLICA_URL_PROPERTY = "person.datasource.replica.url";
+
+    private final Environment environment;
+
+    private HikariDataSource primary;
+
+    private HikariDataSource replica;
+
+    public PersonReplicaRoutingConfiguration(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties) {
+        Binder binder = Binder.get(this.environment);
+
+        this.primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(this.primary));
+        this.primary.setPoolName("primary");
+
+        this.replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(this.environment.getRequiredProperty(REPLICA_URL_PROPERTY))
+                .username(this.environment.getProperty("person.datasource.replica.username", properties.determineUsername()))
+                .password(this.environment.getProperty("person.datasource.replica.password", properties.determinePassword()))
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(this.replica));
+        // A replica that is down must not block reads for long nor prevent the application from starting.
+        this.replica.setConnectionTimeout(1000);
+        this.replica.setInitializationFailTimeout(-1);
+        binder.bind("person.datasource.replica.hikari", Bindable.ofInstance(this.replica));
+        this.replica.setPoolName("replica");
+        this.replica.setReadOnly(true);
+
+        Duration retryInterval = this.environment.getProperty("person.datasource.replica.retry-interval",
+                Duration.class, Duration.ofSeconds(30));
+        return new LazyConnectionDataSourceProxy(new PersonRoutingDataSource(this.primary, this.replica, retryInterval));
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        PersonReplicaTransactionManager transactionManager = new PersonReplicaTransactionManager();
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public PersonReadYourWritesFilter personReadYourWritesFilter() {
+        return new PersonReadYourWritesFilter(this.environment.getProperty(
+                "person.datasource.replica.read-your-writes-window", Duration.class, Duration.ofSeconds(5)));
+    }
+
+    @Override
+    public void destroy() {
+        if (this.replica != null) {
+            this.replica.close();
+        }
+        if (this.primary != null) {
+            this.primary.close();
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.configurations;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// A read-only transaction that may be routed to the replica reads the second-level and query caches but
+// never fills them: an entry loaded from a lagging replica would otherwise be served to every reader,
+// including the ones whose read-your-writes window sends them to the primary.
+public class PersonReplicaTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        if (definition.isReadOnly() && !PersonRoutingDataSource.isPrimaryForced()) {
+            setCacheMode(CacheMode.GET);
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        // An EntityManager bound outside of the transaction outlives it and must not keep the mode.
+        setCacheMode(CacheMode.NORMAL);
+        super.doCleanupAfterCompletion(transaction);
+    }
+
+    private void setCacheMode(CacheMode cacheMode) {
+        EntityManagerHolder holder =
+                (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        if (holder != null && holder.getEntityManager().isOpen()) {
+            holder.getEntityManager().unwrap(Session.class).setCacheMode(cacheMode);
+        }
+    }
+
+}
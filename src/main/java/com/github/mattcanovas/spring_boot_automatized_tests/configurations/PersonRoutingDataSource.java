@@ -0,0 +1,99 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.configurations;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Sends read-only transactions to the replica and everything else to the primary. It must sit behind a
+// LazyConnectionDataSourceProxy: the read-only flag of a transaction is only published after JPA has begun it.
+public class PersonRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final DataSource primary;
+
+    private final Duration retryInterval;
+
+    private final Clock clock;
+
+    private volatile long replicaDownUntil;
+
+    public PersonRoutingDataSource(DataSource primary, DataSource replica, Duration retryInterval) {
+        this(primary, replica, retryInterval, Clock.systemUTC());
+    }
+
+    public PersonRoutingDataSource(DataSource primary, DataSource replica, Duration retryInterval, Clock clock) {
+        this.primary = primary;
+        this.retryInterval = retryInterval;
+        this.clock = clock;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static void clearForcePrimary() {
+        PRIMARY_FORCED.remove();
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get();
+    }
+
+    // Tells whether the current thread was handed a replica connection since the last reset, i.e. whether
+    // what it just loaded may lag behind the primary and must stay out of shared caches.
+    public static void resetReplicaRead() {
+        REPLICA_READ.remove();
+    }
+
+    public static boolean isReplicaRead() {
+        return REPLICA_READ.get();
+    }
+
+    public boolean isReplicaAvailable() {
+        return this.clock.millis() >= this.replicaDownUntil;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !isPrimaryForced() && isReplicaAvailable()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target == this.primary) {
+            return target.getConnection();
+        }
+        try {
+            Connection connection = target.getConnection();
+            REPLICA_READ.set(Boolean.TRUE);
+            return connection;
+        } catch (SQLException e) {
+            this.replicaDownUntil = this.clock.millis() + this.retryInterval.toMillis();
+            logger.warn("Replica is unavailable, reading from the primary for the next " + this.retryInterval, e);
+            return this.primary.getConnection();
+        }
+    }
+
+}
@@ -1,68 +1,313 @@
 package com.github.mattcanovas.spring_boot_automatized_tests.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonBatchResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonBulkDeleteResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonField;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonFields;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonFieldsPage;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonImportResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonLookupResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPage;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPatch;
 import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonConflictException;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonLookupTimeoutException;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonVersionMismatchException;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonExportService;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonImportService;
 import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
 
 @RestController
 @RequestMapping("/v1/person")
 public class PersonController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final String DEFAULT_PAGE_SIZE = "50";
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    // Trigram indexes can only narrow down patterns of at least three characters.
+    private static final int MIN_SEARCH_LENGTH = 3;
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final int MAX_LOOKUP_SIZE = 500;
+
+    private static final int MAX_BULK_DELETE_SIZE = 100_000;
+
     private final PersonService service;
 
-    public PersonController(PersonService service) {
+    private final PersonExportService exportService;
+
+    private final PersonImportService importService;
+
+    public PersonController(PersonService service, PersonExportService exportService, PersonImportService importService) {
         this.service = service;
+        this.exportService = exportService;
+        this.importService = importService;
+    }
+
+    @GetMapping(
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<Person>> findAll(
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        Long afterId;
+        try {
+            afterId = PersonCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        PersonPage page = this.service.findPage(afterId, limit);
+        return toPageResponse(page.persons(), page.nextCursor(), limit);
     }
 
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<Person>> findAll() {
-        return new ResponseEntity<>(this.service.findAll(), HttpStatus.OK);
+    @GetMapping(
+            params = "fields",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<PersonFields>> findAllFields(
+            @RequestParam String fields,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        Set<PersonField> selectedFields;
+        Long afterId;
+        try {
+            selectedFields = PersonField.parse(fields);
+            afterId = PersonCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        PersonFieldsPage page = this.service.findFieldsPage(selectedFields, afterId, limit);
+        return toPageResponse(page.persons(), page.nextCursor(), limit);
     }
 
-    @GetMapping(path = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Person> findById(@PathVariable Long id) {
+    @GetMapping(
+            path = "/search",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<Person>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after) {
+        if (q.strip().length() < MIN_SEARCH_LENGTH || limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        Long afterId;
         try {
-            return new ResponseEntity<>(this.service.findById(id), HttpStatus.OK);
+            afterId = PersonCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        PersonPage page = this.service.search(q, afterId, limit);
+        return toPageResponse(page.persons(), page.nextCursor(), limit);
+    }
+
+    @GetMapping(
+            path = "/lookup",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<PersonLookupResult> findAllById(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_LOOKUP_SIZE || ids.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(this.service.findAllById(ids));
+    }
+
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> this.exportService.export(outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping(
+            path = "/{id}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Person> findById(@PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        try {
+            Person person = this.service.findById(id);
+            return withETag(ResponseEntity.ok(), person, accept).body(person);
+        } catch (PersonLookupTimeoutException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
     }
 
-    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Person> create(@RequestBody Person person) {
-        return new ResponseEntity<>(this.service.create(person), HttpStatus.CREATED);
+    @GetMapping(
+            path = "/{id}",
+            params = "fields",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<PersonFields> findFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        Set<PersonField> selectedFields;
+        try {
+            selectedFields = PersonField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(this.service.findFieldsById(selectedFields, id));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
 
-    @PutMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Person> update(@RequestBody Person person) {
+    @PostMapping(
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Person> create(@RequestBody Person person,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
         try {
-            return new ResponseEntity<>(this.service.update(person), HttpStatus.OK);
+            Person createdPerson = this.service.create(person);
+            return withETag(ResponseEntity.status(HttpStatus.CREATED), createdPerson, accept).body(createdPerson);
+        } catch (PersonConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping(
+            path = "/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<PersonBatchResult>> createAll(@RequestBody List<Person> persons) {
+        if (persons.isEmpty() || persons.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return new ResponseEntity<>(this.service.createAll(persons), HttpStatus.OK);
+        } catch (PersonConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping(
+            path = "/import",
+            consumes = TEXT_CSV_VALUE,
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<PersonImportResult> importCsv(InputStream csv) throws IOException, SQLException {
+        try {
+            return ResponseEntity.ok(this.importService.importCsv(csv));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping(
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Person> update(@RequestBody Person person,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        try {
+            Long expectedVersion = PersonETag.parse(ifMatch);
+            Person updatedPerson = expectedVersion == null
+                    ? this.service.update(person)
+                    : this.service.update(person, expectedVersion);
+            return withETag(ResponseEntity.ok(), updatedPerson, accept).body(updatedPerson);
+        } catch (PersonConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (PersonVersionMismatchException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    @PatchMapping(
+            path = "/{id}",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Object> patch(@PathVariable Long id, @RequestBody PersonPatch patch) {
+        if (patch.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            this.service.patch(id, patch);
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        } catch (PersonConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Object> delete(@PathVariable Long id) {
         try {
             service.delete(id);
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
-        } catch (Exception e) {
+        } catch (IllegalStateException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    @DeleteMapping(
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<PersonBulkDeleteResult> deleteAll(@RequestBody List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_BULK_DELETE_SIZE || ids.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(this.service.deleteAll(ids));
+    }
+
+    private static <T> ResponseEntity<List<T>> toPageResponse(List<T> persons, Long nextCursorId, int limit) {
+        if (nextCursorId == null) {
+            return new ResponseEntity<>(persons, HttpStatus.OK);
+        }
+        String nextCursor = PersonCursor.encode(nextCursorId);
+        String nextLink = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("limit", limit)
+                .replaceQueryParam("after", nextCursor)
+                .toUriString();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"")
+                .header(NEXT_CURSOR_HEADER, nextCursor)
+                .body(persons);
+    }
+
+    private static ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, Person person, String accept) {
+        if (person != null && person.getVersion() != null) {
+            builder.eTag(PersonETag.of(person.getVersion(), accept));
+        }
+        return builder;
+    }
+
 }
@@ -0,0 +1,28 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+final class PersonCursor {
+
+    private static final String PREFIX = "id:";
+
+    private PersonCursor() {}
+
+    static String encode(Long id) {
+        byte[] value = (PREFIX + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+
+    static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!value.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return Long.valueOf(value.substring(PREFIX.length()));
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.controllers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonVersionMismatchException;
+
+final class PersonETag {
+
+    private static final String ANY = "*";
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(PersonController.APPLICATION_SMILE_VALUE);
+
+    // JSON keeps the bare version so the tag clients already hold stays valid; the binary encodings
+    // are different byte sequences of the same version and need their own strong tag.
+    private static final String CBOR_SUFFIX = "-cbor";
+
+    private static final String SMILE_SUFFIX = "-smile";
+
+    private PersonETag() {}
+
+    static String of(Long version, String accept) {
+        return "\"" + version + suffixFor(accept) + "\"";
+    }
+
+    /**
+     * Parses an If-Match header. If-Match uses the strong comparison, so a weak tag can never match
+     * and is rejected the same way as a stale one.
+     */
+    static Long parse(String header) {
+        if (header == null || header.isBlank() || ANY.equals(header.trim())) {
+            return null;
+        }
+        String value = header.trim();
+        if (value.startsWith(WEAK_PREFIX)) {
+            throw new PersonVersionMismatchException("Weak entity tag cannot satisfy If-Match: " + header);
+        }
+        if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            throw new PersonVersionMismatchException("Invalid entity tag: " + header);
+        }
+        String opaque = value.substring(1, value.length() - 1);
+        if (opaque.endsWith(CBOR_SUFFIX)) {
+            opaque = opaque.substring(0, opaque.length() - CBOR_SUFFIX.length());
+        } else if (opaque.endsWith(SMILE_SUFFIX)) {
+            opaque = opaque.substring(0, opaque.length() - SMILE_SUFFIX.length());
+        }
+        try {
+            return Long.valueOf(opaque);
+        } catch (NumberFormatException e) {
+            throw new PersonVersionMismatchException("Invalid entity tag: " + header, e);
+        }
+    }
+
+    // Mirrors the converter selection: highest quality first, JSON wins ties as the first producible type.
+    private static String suffixFor(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return "";
+        }
+        List<MediaType> requested;
+        try {
+            requested = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return "";
+        }
+        requested.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : requested) {
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return "";
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return CBOR_SUFFIX;
+            }
+            if (mediaType.isCompatibleWith(APPLICATION_SMILE)) {
+                return SMILE_SUFFIX;
+            }
+        }
+        return "";
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.controllers;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.PersonR2dbcConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.PersonRow;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonConflictException;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonReactiveService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/v2/person")
+@ConditionalOnProperty(PersonR2dbcConfiguration.URL_PROPERTY)
+public class PersonReactiveController {
+
+    private final PersonReactiveService service;
+
+    public PersonReactiveController(PersonReactiveService service) {
+        this.service = service;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PersonRow> findAll() {
+        return this.service.findAll();
+    }
+
+    @GetMapping(path = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PersonRow>> findById(@PathVariable Long id) {
+        return this.service.findById(id)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalStateException.class, e -> Mono.just(ResponseEntity.notFound().build()));
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PersonRow>> create(@RequestBody PersonRow person) {
+        return this.service.create(person)
+                .map(createdPerson -> ResponseEntity.status(HttpStatus.CREATED).body(createdPerson))
+                .onErrorResume(PersonConflictException.class, e -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build()));
+    }
+
+}
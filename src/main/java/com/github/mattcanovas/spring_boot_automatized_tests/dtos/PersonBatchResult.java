@@ -0,0 +1,21 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.dtos;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+
+public record PersonBatchResult(int index, Status status, Person person, String error) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE_EMAIL
+    }
+
+    public static PersonBatchResult created(int index, Person person) {
+        return new PersonBatchResult(index, Status.CREATED, person, null);
+    }
+
+    public static PersonBatchResult duplicateEmail(int index, Person person) {
+        return new PersonBatchResult(index, Status.DUPLICATE_EMAIL, null,
+                "Person already exist with given e-Mail: " + person.getEmail());
+    }
+
+}
@@ -0,0 +1,5 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.dtos;
+
+public record PersonBulkDeleteResult(int requested, int deleted) {
+
+}
@@ -0,0 +1,48 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.dtos;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+public enum PersonField {
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    EMAIL("email"),
+    VERSION("version");
+
+    private final String property;
+
+    PersonField(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return this.property;
+    }
+
+    public static Set<PersonField> parse(String fields) {
+        Set<PersonField> selected = EnumSet.noneOf(PersonField.class);
+        for (String field : fields.split(",")) {
+            String property = field.strip();
+            if (property.isEmpty()) {
+                continue;
+            }
+            selected.add(fromProperty(property));
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be selected!");
+        }
+        return selected;
+    }
+
+    private static PersonField fromProperty(String property) {
+        for (PersonField field : values()) {
+            if (field.property.equalsIgnoreCase(property)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown person field: " + property.toLowerCase(Locale.ROOT));
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.dtos;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public record PersonFields(Long id, Map<String, Object> values) {
+
+    @JsonValue
+    public Map<String, Object> values() {
+        return this.values;
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.dtos;
+
+import java.util.List;
+
+public record PersonFieldsPage(List<PersonFields> persons, Long nextCursor) {
+
+    public boolean hasNext() {
+        return this.nextCursor != null;
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.dtos;
+
+public record PersonImportResult(long rows, long imported, long rejected, long elapsedMillis, long rowsPerSecond) {
+
+    public static PersonImportResult of(long rows, long imported, long elapsedNanos) {
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        long rowsPerSecond = elapsedNanos == 0 ? rows : rows * 1_000_000_000 / elapsedNanos;
+        return new PersonImportResult(rows, imported, rows - imported, elapsedMillis, rowsPerSecond);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.dtos;
+
+import java.util.List;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+
+public record PersonLookupResult(List<Person> persons, List<Long> missing) {
+
+}
@@ -0,0 +1,13 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.dtos;
+
+import java.util.List;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+
+public record PersonPage(List<Person> persons, Long nextCursor) {
+
+    public boolean hasNext() {
+        return this.nextCursor != null;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.dtos;
+
+public record PersonPatch(String firstName, String lastName, String email) {
+
+    public boolean isEmpty() {
+        return this.firstName == null && this.lastName == null && this.email == null;
+    }
+
+}
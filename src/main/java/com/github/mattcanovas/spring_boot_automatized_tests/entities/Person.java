@@ -2,19 +2,28 @@ package com.github.mattcanovas.spring_boot_automatized_tests.entities;
 
 import java.io.Serializable;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "tb_person", schema = "public")
 public class Person implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_person")
+    @SequenceGenerator(name = "seq_person", sequenceName = "seq_person", schema = "public", allocationSize = 50)
     @Column(name = "id_person")
     private Long id;
 
@@ -27,6 +36,10 @@ public class Person implements Serializable {
     @Column(name = "email", nullable = false)
     private String email;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public Person() {
     }
 
@@ -68,4 +81,12 @@ public class Person implements Serializable {
         this.email = email;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
 }
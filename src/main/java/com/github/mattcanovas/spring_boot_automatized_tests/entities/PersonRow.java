@@ -0,0 +1,20 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.entities;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table(name = "tb_person", schema = "public")
+public record PersonRow(
+        @Id @Column("id_person") Long id,
+        @Column("first_name") String firstName,
+        @Column("last_name") String lastName,
+        @Column("email") String email,
+        @Version @Column("version") Long version) {
+
+    public PersonRow withId(Long id) {
+        return new PersonRow(id, this.firstName, this.lastName, this.email, this.version);
+    }
+
+}
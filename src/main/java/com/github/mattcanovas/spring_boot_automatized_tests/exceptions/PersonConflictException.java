@@ -0,0 +1,9 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.exceptions;
+
+public class PersonConflictException extends IllegalStateException {
+
+    public PersonConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
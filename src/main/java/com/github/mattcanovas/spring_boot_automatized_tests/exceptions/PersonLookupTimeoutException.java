@@ -0,0 +1,13 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.exceptions;
+
+public class PersonLookupTimeoutException extends IllegalStateException {
+
+    public PersonLookupTimeoutException(String message) {
+        super(message);
+    }
+
+    public PersonLookupTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.exceptions;
+
+public class PersonVersionMismatchException extends IllegalStateException {
+
+    public PersonVersionMismatchException(String message) {
+        super(message);
+    }
+
+    public PersonVersionMismatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
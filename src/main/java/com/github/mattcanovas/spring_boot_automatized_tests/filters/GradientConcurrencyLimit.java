@@ -0,0 +1,94 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.filters;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// A gradient concurrency limit in the spirit of Netflix's Gradient2: the limit follows the ratio between the
+// long-term average latency and the latest one. Latency growing past the tolerance means requests queue
+// somewhere downstream, typically for a database connection, and shrinks the limit; steady latency lets it
+// grow by roughly the square root of the limit per sample.
+public class GradientConcurrencyLimit {
+
+    private static final double TOLERANCE = 1.5;
+
+    private static final double SMOOTHING = 0.2;
+
+    private static final int LONG_WINDOW = 600;
+
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private double estimatedLimit;
+
+    private volatile int limit;
+
+    private double longRttNanos;
+
+    private int samples;
+
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = this.inFlight.get();
+            if (current >= this.limit) {
+                return false;
+            }
+        } while (!this.inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void release() {
+        this.inFlight.decrementAndGet();
+    }
+
+    public void release(long rttNanos) {
+        onSample(rttNanos, this.inFlight.getAndDecrement());
+    }
+
+    public int getLimit() {
+        return this.limit;
+    }
+
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlight) {
+        double rtt = Math.max(1, rttNanos);
+        if (this.samples < WARMUP_SAMPLES) {
+            this.samples++;
+            this.longRttNanos += (rtt - this.longRttNanos) / this.samples;
+            return;
+        }
+        this.longRttNanos += (rtt - this.longRttNanos) / LONG_WINDOW;
+        if (this.longRttNanos / rtt > 2) {
+            // Latency dropped well below the long-term average, e.g. after a slow period: catch up faster.
+            this.longRttNanos *= 0.95;
+        }
+        if (inFlight < this.estimatedLimit / 2) {
+            // The limit is not what holds requests back, so the sample says nothing about raising it.
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * this.longRttNanos / rtt));
+        double newLimit = this.estimatedLimit * gradient + Math.sqrt(this.estimatedLimit);
+        newLimit = this.estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        this.estimatedLimit = Math.max(this.minLimit, Math.min(this.maxLimit, newLimit));
+        this.limit = (int) this.estimatedLimit;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.filters;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Requests over the limit are answered with 503 right away instead of queueing on a Tomcat thread for a
+// database connection. Reads and writes have their own limit, so a burst of one cannot starve the other.
+public class PersonConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public static final String LIMIT_METRIC_NAME = "person.concurrency.limit";
+
+    public static final String REJECTED_METRIC_NAME = "person.concurrency.rejected";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final GradientConcurrencyLimit readLimit;
+
+    private final GradientConcurrencyLimit writeLimit;
+
+    private final String retryAfterSeconds;
+
+    private final Counter readsRejected;
+
+    private final Counter writesRejected;
+
+    public PersonConcurrencyLimitFilter(GradientConcurrencyLimit readLimit, GradientConcurrencyLimit writeLimit,
+            int retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.readLimit = readLimit;
+        this.writeLimit = writeLimit;
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+        Gauge.builder(LIMIT_METRIC_NAME, readLimit, GradientConcurrencyLimit::getLimit).tag("kind", "read").register(meterRegistry);
+        Gauge.builder(LIMIT_METRIC_NAME, writeLimit, GradientConcurrencyLimit::getLimit).tag("kind", "write").register(meterRegistry);
+        this.readsRejected = Counter.builder(REJECTED_METRIC_NAME).tag("kind", "read").register(meterRegistry);
+        this.writesRejected = Counter.builder(REJECTED_METRIC_NAME).tag("kind", "write").register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean read = READ_METHODS.contains(request.getMethod());
+        GradientConcurrencyLimit limit = read ? this.readLimit : this.writeLimit;
+        if (!limit.tryAcquire()) {
+            (read ? this.readsRejected : this.writesRejected).increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, this.retryAfterSeconds);
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean released = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Streaming responses keep their permit until they complete, but their duration is no latency sample.
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(limit));
+            } else {
+                limit.release(System.nanoTime() - start);
+            }
+            released = true;
+        } finally {
+            if (!released) {
+                limit.release();
+            }
+        }
+    }
+
+    private static final class ReleasingAsyncListener implements AsyncListener {
+
+        private final GradientConcurrencyLimit limit;
+
+        private boolean released;
+
+        private ReleasingAsyncListener(GradientConcurrencyLimit limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private synchronized void release() {
+            if (!this.released) {
+                this.released = true;
+                this.limit.release();
+            }
+        }
+
+    }
+
+}
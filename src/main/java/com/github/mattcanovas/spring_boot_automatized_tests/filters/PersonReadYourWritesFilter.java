@@ -0,0 +1,88 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.filters;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.PersonRoutingDataSource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// A write hands the client a cookie holding the end of its read-your-writes window; until then its reads
+// go to the primary, so a replica lagging behind never hides the client's own changes.
+public class PersonReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "person-primary-until";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration window;
+
+    private final Clock clock;
+
+    public PersonReadYourWritesFilter(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    public PersonReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = this.clock.millis();
+        boolean write = !READ_METHODS.contains(request.getMethod());
+        if (write) {
+            // Written before the chain runs, as the response may be committed by the time it returns.
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + this.window.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (this.window.toMillis() + 999) / 1000));
+            response.addCookie(cookie);
+        }
+
+        if (!write && !isWithinWindow(primaryUntil(request), now)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        PersonRoutingDataSource.forcePrimary();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PersonRoutingDataSource.clearForcePrimary();
+        }
+    }
+
+    // The cookie is client-controlled: a value further out than one window from now was not handed out by this
+    // filter, and honouring it would let a client pin all of its reads on the primary.
+    private boolean isWithinWindow(long primaryUntil, long now) {
+        return primaryUntil > now && primaryUntil <= now + this.window.toMillis();
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+}
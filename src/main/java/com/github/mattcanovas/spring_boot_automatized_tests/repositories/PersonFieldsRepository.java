@@ -0,0 +1,16 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.repositories;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonField;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonFields;
+
+public interface PersonFieldsRepository {
+
+    List<PersonFields> findFieldsByIdGreaterThan(Set<PersonField> fields, Long id, int limit);
+
+    Optional<PersonFields> findFieldsById(Set<PersonField> fields, Long id);
+
+}
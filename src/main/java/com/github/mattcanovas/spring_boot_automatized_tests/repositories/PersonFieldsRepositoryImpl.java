@@ -0,0 +1,78 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.repositories;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonField;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonFields;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public class PersonFieldsRepositoryImpl implements PersonFieldsRepository {
+
+    private static final String ID_ALIAS = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PersonFields> findFieldsByIdGreaterThan(Set<PersonField> fields, Long id, int limit) {
+        CriteriaBuilder builder = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Person> person = query.from(Person.class);
+        query.multiselect(selections(person, fields))
+                .where(builder.greaterThan(person.get("id"), id))
+                .orderBy(builder.asc(person.get("id")));
+
+        List<Tuple> tuples = this.entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+        return tuples.stream().map(tuple -> toPersonFields(tuple, fields)).toList();
+    }
+
+    @Override
+    public Optional<PersonFields> findFieldsById(Set<PersonField> fields, Long id) {
+        CriteriaBuilder builder = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Person> person = query.from(Person.class);
+        query.multiselect(selections(person, fields))
+                .where(builder.equal(person.get("id"), id));
+
+        return this.entityManager.createQuery(query)
+                .getResultStream()
+                .findFirst()
+                .map(tuple -> toPersonFields(tuple, fields));
+    }
+
+    // The id is always selected because the keyset cursor is built from it, even when it is not returned.
+    private static List<Selection<?>> selections(Root<Person> person, Set<PersonField> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size() + 1);
+        selections.add(person.get("id").alias(ID_ALIAS));
+        for (PersonField field : fields) {
+            if (field != PersonField.ID) {
+                selections.add(person.get(field.property()).alias(field.property()));
+            }
+        }
+        return selections;
+    }
+
+    private static PersonFields toPersonFields(Tuple tuple, Set<PersonField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (PersonField field : fields) {
+            values.put(field.property(), tuple.get(field.property()));
+        }
+        return new PersonFields(tuple.get(ID_ALIAS, Long.class), values);
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.repositories;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+import static org.springframework.data.relational.core.query.Query.empty;
+import static org.springframework.data.relational.core.query.Query.query;
+
+import java.util.Locale;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.PersonR2dbcConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.PersonRow;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@ConditionalOnProperty(PersonR2dbcConfiguration.URL_PROPERTY)
+public class PersonReactiveRepository {
+
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private final R2dbcEntityTemplate template;
+
+    private final String nextIdSql;
+
+    private final Object idLock = new Object();
+
+    private long nextId;
+
+    private long blockEnd;
+
+    public PersonReactiveRepository(R2dbcEntityTemplate template) {
+        this.template = template;
+        String database = template.getDatabaseClient().getConnectionFactory().getMetadata().getName();
+        // Ids are taken one seq_person block of 50 at a time, the same way the pooled-lo optimizer of Person does.
+        this.nextIdSql = database.toLowerCase(Locale.ROOT).contains("postgres")
+                ? "SELECT nextval('public.seq_person')"
+                : "SELECT NEXT VALUE FOR public.seq_person";
+    }
+
+    public Flux<PersonRow> findAll() {
+        return this.template.select(PersonRow.class)
+                .matching(empty().sort(Sort.by("id")))
+                .all();
+    }
+
+    public Mono<PersonRow> findById(Long id) {
+        return this.template.selectOne(query(where("id").is(id)), PersonRow.class);
+    }
+
+    public Mono<PersonRow> insert(PersonRow person) {
+        return nextId().flatMap(id -> this.template.insert(person.withId(id)));
+    }
+
+    // Concurrent inserts that find the block used up may each fetch a new one; the block replaced first
+    // loses its remaining ids, but no id is handed out twice.
+    private Mono<Long> nextId() {
+        synchronized (this.idLock) {
+            if (this.nextId < this.blockEnd) {
+                return Mono.just(this.nextId++);
+            }
+        }
+        return this.template.getDatabaseClient().sql(this.nextIdSql)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(this::startBlock);
+    }
+
+    private long startBlock(long firstId) {
+        synchronized (this.idLock) {
+            this.nextId = firstId + 1;
+            this.blockEnd = firstId + ID_BLOCK_SIZE;
+        }
+        return firstId;
+    }
+
+}
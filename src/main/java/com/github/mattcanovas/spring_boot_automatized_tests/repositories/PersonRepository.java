@@ -1,30 +1,95 @@
 package com.github.mattcanovas.spring_boot_automatized_tests.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface PersonRepository extends JpaRepository<Person, Long> {
+public interface PersonRepository extends JpaRepository<Person, Long>, PersonFieldsRepository {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Person> findByEmail(String email);
 
+    List<Person> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT p.email FROM Person p WHERE p.email IN :emails")
+    Set<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Person p
+               SET p.firstName = COALESCE(:firstName, p.firstName),
+                   p.lastName = COALESCE(:lastName, p.lastName),
+                   p.email = COALESCE(:email, p.email),
+                   p.version = p.version + 1
+             WHERE p.id = :id
+            """)
+    int patchById(
+        @Param("id") Long id,
+        @Param("firstName") String firstName,
+        @Param("lastName") String lastName,
+        @Param("email") String email);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Person p WHERE p.id = :id")
+    int deletePersonById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Person p WHERE p.id IN :ids")
+    int deletePersonsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // The LOWER(...) expression must stay identical to idx_person_search_trgm for Postgres to use the index.
+    @NativeQuery("""
+            SELECT * FROM public.tb_person p
+             WHERE LOWER(p.first_name || ' ' || p.last_name || ' ' || p.email) LIKE :pattern
+               AND p.id_person > :after
+             ORDER BY p.id_person
+             LIMIT :limit
+            """)
+    List<Person> search(@Param("pattern") String pattern, @Param("after") Long after, @Param("limit") int limit);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT p FROM Person p ORDER BY p.id")
+    Stream<Person> streamAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT p from Person p where p.firstName = ?1 and p.lastName = ?2")
     Optional<Person> findByFirstNameAndLastNameWithJPQLIndexesParameters(String firstName, String lastName);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT p from Person p where p.firstName = :firstName and p.lastName = :lastName")
     Optional<Person> findByFirstNameAndLastNameWithJPQLNamedParameters(
         @Param("firstName") String firstName, 
         @Param("lastName") String lastName);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @NativeQuery("SELECT * FROM public.tb_person p WHERE p.first_name = ?1 AND p.last_name = ?2")
     Optional<Person> findByFirstNameAndLastNameWithNativeQueryIndexesParameters(String firstName, String lastName);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @NativeQuery("SELECT * FROM public.tb_person p WHERE p.first_name = :firstName AND p.last_name = :lastName")
     Optional<Person> findByFirstNameAndLastNameWithNativeQueryNamedParameters(String firstName, String lastName);
 }
@@ -0,0 +1,16 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.services;
+
+import java.util.Locale;
+
+final class EmailNormalizer {
+
+    private EmailNormalizer() {}
+
+    static String normalize(String email) {
+        if (email == null) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+
+final class PersonCsvReader {
+
+    private static final int MAX_NAME_LENGTH = 255;
+
+    private static final int MAX_EMAIL_LENGTH = 400;
+
+    private final BufferedReader reader;
+
+    private final int firstNameColumn;
+
+    private final int lastNameColumn;
+
+    private final int emailColumn;
+
+    private long rows;
+
+    private long rejected;
+
+    PersonCsvReader(Reader reader) throws IOException {
+        this.reader = new BufferedReader(reader);
+        List<String> header = null;
+        String line;
+        while (header == null && (line = this.reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                header = split(line);
+            }
+        }
+        if (header == null) {
+            throw new IllegalArgumentException("CSV must start with a first_name,last_name,email header!");
+        }
+        this.firstNameColumn = column(header, "firstname");
+        this.lastNameColumn = column(header, "lastname");
+        this.emailColumn = column(header, "email");
+    }
+
+    /**
+     * Returns the next valid person, counting the malformed rows it skips, or null once the input is exhausted.
+     */
+    Person next() throws IOException {
+        String line;
+        while ((line = this.reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            this.rows++;
+            Person person = toPerson(split(line));
+            if (person != null) {
+                return person;
+            }
+            this.rejected++;
+        }
+        return null;
+    }
+
+    long rows() {
+        return this.rows;
+    }
+
+    long rejected() {
+        return this.rejected;
+    }
+
+    private Person toPerson(List<String> fields) {
+        if (fields == null || fields.size() <= Math.max(this.emailColumn, Math.max(this.firstNameColumn, this.lastNameColumn))) {
+            return null;
+        }
+        String firstName = fields.get(this.firstNameColumn).strip();
+        String lastName = fields.get(this.lastNameColumn).strip();
+        String email = EmailNormalizer.normalize(fields.get(this.emailColumn));
+        if (firstName.isEmpty() || firstName.length() > MAX_NAME_LENGTH
+                || lastName.isEmpty() || lastName.length() > MAX_NAME_LENGTH
+                || email.indexOf('@') < 1 || email.length() > MAX_EMAIL_LENGTH) {
+            return null;
+        }
+        return new Person(firstName, lastName, email);
+    }
+
+    private static int column(List<String> header, String name) {
+        for (int index = 0; index < header.size(); index++) {
+            if (header.get(index).strip().replace("_", "").toLowerCase(Locale.ROOT).equals(name)) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("CSV header must contain first_name, last_name and email columns!");
+    }
+
+    // RFC 4180 quoting within a single line; returns null for an unterminated quote.
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            char character = line.charAt(index);
+            if (quoted) {
+                if (character != '"') {
+                    field.append(character);
+                } else if (index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                    field.append('"');
+                    index++;
+                } else {
+                    quoted = false;
+                }
+            } else if (character == '"') {
+                quoted = true;
+            } else if (character == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(character);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+}
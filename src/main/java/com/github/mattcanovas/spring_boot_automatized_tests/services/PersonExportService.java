@@ -0,0 +1,63 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Service
+public class PersonExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final PersonRepository repository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectWriter writer;
+
+    private final Logger logger = LoggerFactory.getLogger(PersonExportService.class);
+
+    public PersonExportService(PersonRepository repository, EntityManager entityManager, ObjectMapper mapper) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.writer = mapper.writerFor(Person.class);
+    }
+
+    @Transactional(readOnly = true)
+    public long export(OutputStream outputStream) throws IOException {
+        logger.info("Exporting all persons!");
+        long rows = 0;
+        try (Stream<Person> persons = this.repository.streamAll()) {
+            Iterator<Person> iterator = persons.iterator();
+            while (iterator.hasNext()) {
+                Person person = iterator.next();
+                outputStream.write(this.writer.writeValueAsBytes(person));
+                outputStream.write(LINE_SEPARATOR);
+                this.entityManager.detach(person);
+
+                if (++rows % FLUSH_EVERY_ROWS == 0) {
+                    outputStream.flush();
+                }
+            }
+        }
+        outputStream.flush();
+        logger.info("Exported " + rows + " persons!");
+        return rows;
+    }
+
+}
@@ -0,0 +1,195 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonBatchResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonImportResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonConflictException;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Service
+public class PersonImportService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final String CREATE_STAGING_TABLE = """
+            CREATE TEMPORARY TABLE tmp_person_import (
+                line bigint NOT NULL,
+                first_name character varying(255) NOT NULL,
+                last_name character varying(255) NOT NULL,
+                email character varying(400) NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING_TABLE =
+            "COPY tmp_person_import (line, first_name, last_name, email) FROM STDIN WITH (FORMAT csv)";
+
+    // Ids are taken one seq_person block of 50 at a time, the same way the pooled-lo optimizer of Person does.
+    private static final String INSERT_FROM_STAGING_TABLE = """
+            WITH accepted AS (
+                SELECT s.first_name, s.last_name, s.email, ROW_NUMBER() OVER (ORDER BY s.line) - 1 AS position
+                  FROM (SELECT DISTINCT ON (email) line, first_name, last_name, email
+                          FROM tmp_person_import
+                         ORDER BY email, line) s
+                 WHERE NOT EXISTS (SELECT 1 FROM public.tb_person p WHERE p.email = s.email)
+            ), blocks AS (
+                SELECT NEXTVAL('public.seq_person') AS first_id, ROW_NUMBER() OVER () - 1 AS block
+                  FROM GENERATE_SERIES(1, (SELECT CEIL(COUNT(*) / %1$d.0)::integer FROM accepted))
+            )
+            INSERT INTO public.tb_person (id_person, first_name, last_name, email, version)
+            SELECT b.first_id + a.position %% %1$d, a.first_name, a.last_name, a.email, 0
+              FROM accepted a
+              JOIN blocks b ON b.block = a.position / %1$d
+            ON CONFLICT (email) DO NOTHING
+            """.formatted(ID_BLOCK_SIZE);
+
+    private final DataSource dataSource;
+
+    private final PersonService service;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final boolean postgres;
+
+    private final Logger logger = LoggerFactory.getLogger(PersonImportService.class);
+
+    public PersonImportService(DataSource dataSource, PersonService service, EntityManagerFactory entityManagerFactory)
+            throws SQLException {
+        this.dataSource = dataSource;
+        this.service = service;
+        this.entityManagerFactory = entityManagerFactory;
+        this.postgres = isPostgres(dataSource);
+    }
+
+    public PersonImportResult importCsv(InputStream csv) throws IOException, SQLException {
+        logger.info("Importing persons from CSV!");
+        long start = System.nanoTime();
+
+        PersonCsvReader reader = new PersonCsvReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        long imported = this.postgres ? copyImport(reader) : batchImport(reader);
+
+        PersonImportResult result = PersonImportResult.of(reader.rows(), imported, System.nanoTime() - start);
+        logger.info("Imported " + result.imported() + " of " + result.rows() + " persons at "
+                + result.rowsPerSecond() + " rows/s, rejected " + result.rejected() + "!");
+        return result;
+    }
+
+    private static boolean isPostgres(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isWrapperFor(PGConnection.class);
+        }
+    }
+
+    private long copyImport(PersonCsvReader reader) throws IOException, SQLException {
+        try (Connection connection = this.dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_STAGING_TABLE);
+                }
+
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                PGCopyOutputStream copy = new PGCopyOutputStream(copyManager.copyIn(COPY_STAGING_TABLE), COPY_BUFFER_SIZE);
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), COPY_BUFFER_SIZE)) {
+                    Person person;
+                    while ((person = reader.next()) != null) {
+                        writer.write(Long.toString(reader.rows()));
+                        writeField(writer, person.getFirstName());
+                        writeField(writer, person.getLastName());
+                        writeField(writer, person.getEmail());
+                        writer.write('\n');
+                    }
+                }
+
+                int imported;
+                try (Statement statement = connection.createStatement()) {
+                    imported = statement.executeUpdate(INSERT_FROM_STAGING_TABLE);
+                }
+                connection.commit();
+                // Rows written behind Hibernate's back do not invalidate cached queries such as findByEmail.
+                this.entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+                return imported;
+            } catch (IOException | SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private long batchImport(PersonCsvReader reader) throws IOException {
+        long imported = 0;
+        List<Person> batch = new ArrayList<>(BATCH_SIZE);
+        Person person;
+        while ((person = reader.next()) != null) {
+            batch.add(person);
+            if (batch.size() == BATCH_SIZE) {
+                imported += createAll(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += createAll(batch);
+        }
+        return imported;
+    }
+
+    // Every batch commits on its own, so a conflict must not fail the import after earlier batches are stored.
+    // An e-mail taken between the duplicate check and the insert shows up as a duplicate when the batch is retried;
+    // a batch that conflicts twice is counted as rejected.
+    private long createAll(List<Person> persons) {
+        try {
+            return countCreated(persons);
+        } catch (PersonConflictException e) {
+            // The rolled back attempt already assigned ids to these instances, so the retry inserts fresh copies.
+            List<Person> copies = persons.stream()
+                    .map(person -> new Person(person.getFirstName(), person.getLastName(), person.getEmail()))
+                    .toList();
+            try {
+                return countCreated(copies);
+            } catch (PersonConflictException retryException) {
+                logger.warn("Rejected a batch of " + persons.size() + " persons after a repeated e-mail conflict!");
+                return 0;
+            }
+        }
+    }
+
+    private long countCreated(List<Person> persons) {
+        return this.service.createAll(persons).stream()
+                .filter(result -> result.status() == PersonBatchResult.Status.CREATED)
+                .count();
+    }
+
+    private static void writeField(Writer writer, String value) throws IOException {
+        writer.write(",\"");
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.PersonR2dbcConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.PersonRow;
+import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonReactiveRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnProperty(PersonR2dbcConfiguration.URL_PROPERTY)
+public class PersonReactiveService {
+
+    private final PersonReactiveRepository repository;
+
+    private final Logger logger = LoggerFactory.getLogger(PersonReactiveService.class);
+
+    public PersonReactiveService(PersonReactiveRepository repository) {
+        this.repository = repository;
+    }
+
+    public Mono<PersonRow> create(PersonRow person) {
+        logger.info("Creating one person reactively!");
+
+        PersonRow normalized = new PersonRow(null, person.firstName(), person.lastName(),
+                EmailNormalizer.normalize(person.email()), null);
+        return this.repository.insert(normalized)
+                .onErrorMap(DataIntegrityViolationException.class, e -> PersonService.translateEmailConflict(e,
+                        "Person already exist with given e-Mail: " + normalized.email()));
+    }
+
+    public Flux<PersonRow> findAll() {
+        logger.info("Streaming all persons reactively!");
+        return this.repository.findAll();
+    }
+
+    public Mono<PersonRow> findById(Long id) {
+        logger.info("Find one person reactively by id: " + id);
+        return this.repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Person with given id: " + id + " does not exist!")));
+    }
+
+}
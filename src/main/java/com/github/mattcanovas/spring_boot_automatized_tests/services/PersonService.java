@@ -1,35 +1,121 @@
 package com.github.mattcanovas.spring_boot_automatized_tests.services;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.CacheConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.PersonRoutingDataSource;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonBatchResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonBulkDeleteResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonField;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonFields;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonFieldsPage;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonLookupResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPage;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPatch;
 import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonConflictException;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonVersionMismatchException;
 import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Reads run in read-only transactions: Hibernate skips the flush and the dirty-checking snapshots and the
+// JDBC connection is flagged read-only. Every write is one read-write transaction, whatever it calls.
 @Service
+@Timed(PersonService.TIMER_NAME)
+@Transactional(readOnly = true)
 public class PersonService {
-    
+
+    public static final String TIMER_NAME = "person.service";
+
+    private static final String EMAIL_UNIQUE_INDEX = "uidx_person_email";
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private static final Duration DEFAULT_COALESCING_TIMEOUT = Duration.ofSeconds(2);
+
     private final PersonRepository repository;
 
+    private final CacheManager cacheManager;
+
+    private final SingleFlight<FlightKey, PersonRead> findByIdFlight;
+
     private final Logger logger = LoggerFactory.getLogger(PersonService.class);
 
-    public PersonService(PersonRepository repository) {
+    public PersonService(PersonRepository repository, CacheManager cacheManager, MeterRegistry meterRegistry,
+            Environment environment) {
         this.repository = repository;
+        this.cacheManager = cacheManager;
+        Duration coalescingTimeout = environment.getProperty("person.coalescing.timeout",
+                Duration.class, DEFAULT_COALESCING_TIMEOUT);
+        this.findByIdFlight = new SingleFlight<>("findById", coalescingTimeout, meterRegistry);
     }
 
+    @Transactional
     public Person create(Person person) {
         logger.info("Creating one person!");
 
-        Optional<Person> savedPerson = this.repository.findByEmail(person.getEmail());
+        person.setEmail(EmailNormalizer.normalize(person.getEmail()));
+        try {
+            return this.repository.saveAndFlush(person);
+        } catch (DataIntegrityViolationException e) {
+            throw translateEmailConflict(e, "Person already exist with given e-Mail: " + person.getEmail());
+        }
+    }
+
+    @Transactional
+    public List<PersonBatchResult> createAll(List<Person> persons) {
+        logger.info("Creating " + persons.size() + " persons in batch!");
+
+        persons.forEach(person -> person.setEmail(EmailNormalizer.normalize(person.getEmail())));
+        Set<String> emails = persons.stream().map(Person::getEmail).collect(Collectors.toSet());
+        Set<String> takenEmails = new HashSet<>(this.repository.findEmailsIn(emails));
 
-        if(savedPerson.isPresent()) {
-            throw new IllegalStateException("Person already exist with given e-Mail: " + person.getEmail());
+        List<Person> newPersons = new ArrayList<>(persons.size());
+        List<PersonBatchResult> results = new ArrayList<>(persons.size());
+        for (int index = 0; index < persons.size(); index++) {
+            Person person = persons.get(index);
+            if (!takenEmails.add(person.getEmail())) {
+                results.add(PersonBatchResult.duplicateEmail(index, person));
+                continue;
+            }
+            newPersons.add(person);
+            results.add(PersonBatchResult.created(index, person));
         }
-        return this.repository.save(person);
+
+        try {
+            this.repository.saveAll(newPersons);
+            this.repository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw translateEmailConflict(e, "Person already exist with one of the given e-Mails");
+        }
+        return results;
     }
 
     public List<Person> findAll() {
@@ -37,30 +123,239 @@ public class PersonService {
         return this.repository.findAll();
     }
 
+    public PersonPage findPage(Long after, int limit) {
+        logger.info("Find one page of persons after id: " + after);
+        Long lastSeenId = after == null ? 0L : after;
+        List<Person> persons = this.repository.findByIdGreaterThanOrderByIdAsc(lastSeenId, Limit.of(limit + 1));
+        return toPage(persons, limit);
+    }
+
+    public PersonFieldsPage findFieldsPage(Set<PersonField> fields, Long after, int limit) {
+        logger.info("Find one page of person fields " + fields + " after id: " + after);
+        Long lastSeenId = after == null ? 0L : after;
+        List<PersonFields> persons = this.repository.findFieldsByIdGreaterThan(fields, lastSeenId, limit + 1);
+        if (persons.size() > limit) {
+            List<PersonFields> page = persons.subList(0, limit);
+            return new PersonFieldsPage(page, page.get(limit - 1).id());
+        }
+        return new PersonFieldsPage(persons, null);
+    }
+
+    public PersonPage search(String query, Long after, int limit) {
+        logger.info("Search one page of persons matching: " + query + " after id: " + after);
+        Long lastSeenId = after == null ? 0L : after;
+        List<Person> persons = this.repository.search(toContainsPattern(query), lastSeenId, limit + 1);
+        return toPage(persons, limit);
+    }
+
+    // Concurrent cache misses for the same id share one query. Only the caller running it opens a transaction,
+    // so the callers waiting on it do not hold a connection each. Callers forced to the primary never join a
+    // query that may run on the replica. A person read from the replica may lag behind the primary and is not
+    // cached, or it would be served to readers whose writes must be visible to them.
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Person findById(Long id) {
+        Cache cache = this.cacheManager.getCache(CacheConfiguration.PERSONS_CACHE);
+        Person cached = cache == null ? null : cache.get(id, Person.class);
+        if (cached != null) {
+            return cached;
+        }
+
         logger.info("Find one person by id: " + id);
-        Optional<Person> person = this.repository.findById(id);
-        if(person.isPresent()) {
-            return person.get();
+        FlightKey key = new FlightKey(id, PersonRoutingDataSource.isPrimaryForced());
+        PersonRead read = this.findByIdFlight.execute(key, () -> readById(id));
+        if (cache != null && !read.fromReplica()) {
+            cache.put(id, read.person());
         }
-        throw new IllegalStateException("Person with given id: " + id + " does not exist!");
+        return read.person();
     }
 
+    // Ids found in the persons cache never reach the database; the misses are loaded with a single IN query.
+    // It only joins a caller's transaction, so a lookup answered from the cache does not borrow a connection.
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PersonLookupResult findAllById(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        logger.info("Find " + distinctIds.size() + " persons by id!");
+
+        Cache cache = this.cacheManager.getCache(CacheConfiguration.PERSONS_CACHE);
+        Map<Long, Person> persons = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : distinctIds) {
+            Person person = cache == null ? null : cache.get(id, Person.class);
+            if (person == null) {
+                misses.add(id);
+            } else {
+                persons.put(id, person);
+            }
+        }
+        if (!misses.isEmpty()) {
+            PersonRoutingDataSource.resetReplicaRead();
+            List<Person> loaded = this.repository.findAllById(misses);
+            boolean fromReplica = PersonRoutingDataSource.isReplicaRead();
+            for (Person person : loaded) {
+                persons.put(person.getId(), person);
+                if (cache != null && !fromReplica) {
+                    cache.put(person.getId(), person);
+                }
+            }
+        }
+
+        List<Person> found = new ArrayList<>(persons.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : distinctIds) {
+            Person person = persons.get(id);
+            if (person == null) {
+                missing.add(id);
+            } else {
+                found.add(person);
+            }
+        }
+        return new PersonLookupResult(found, missing);
+    }
+
+    public PersonFields findFieldsById(Set<PersonField> fields, Long id) {
+        logger.info("Find person fields " + fields + " by id: " + id);
+        return this.repository.findFieldsById(fields, id)
+                .orElseThrow(() -> new IllegalStateException("Person with given id: " + id + " does not exist!"));
+    }
+
+    @Transactional
+    @CachePut(cacheNames = CacheConfiguration.PERSONS_CACHE, key = "#result.id")
     public Person update(Person person0_) {
+        return update(person0_, null);
+    }
+
+    @Transactional
+    @CachePut(cacheNames = CacheConfiguration.PERSONS_CACHE, key = "#result.id")
+    public Person update(Person person0_, Long expectedVersion) {
         logger.info("Updating one person!");
 
-        Person entity = this.findById(person0_.getId());
+        Person entity = loadById(person0_.getId());
+        if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+            throw new PersonVersionMismatchException("Person with given id: " + entity.getId()
+                    + " is at version " + entity.getVersion() + " instead of " + expectedVersion + "!");
+        }
         entity.setFirstName(person0_.getFirstName());
         entity.setLastName(person0_.getLastName());
-        entity.setEmail(person0_.getEmail());
+        entity.setEmail(EmailNormalizer.normalize(person0_.getEmail()));
 
-        return this.repository.save(entity);
+        // Flushed here so constraint and version failures surface inside the try rather than at commit.
+        try {
+            return this.repository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw translateEmailConflict(e, "Person already exist with given e-Mail: " + entity.getEmail());
+        } catch (OptimisticLockingFailureException e) {
+            throw new PersonVersionMismatchException("Person with given id: " + entity.getId()
+                    + " was changed concurrently!", e);
+        }
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.PERSONS_CACHE, key = "#id")
+    public void patch(Long id, PersonPatch patch) {
+        logger.info("Patching one person by id: " + id);
+
+        String email = EmailNormalizer.normalize(patch.email());
+        int updatedRows;
+        try {
+            updatedRows = this.repository.patchById(id, patch.firstName(), patch.lastName(), email);
+        } catch (DataIntegrityViolationException e) {
+            throw translateEmailConflict(e, "Person already exist with given e-Mail: " + email);
+        }
+        if (updatedRows == 0) {
+            throw new IllegalStateException("Person with given id: " + id + " does not exist!");
+        }
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.PERSONS_CACHE, key = "#id")
     public void delete(Long id) {
         logger.info("Deleting one person!");
-        Person entity = findById(id);
-        this.repository.delete(entity);
+        if (this.repository.deletePersonById(id) == 0) {
+            throw new IllegalStateException("Person with given id: " + id + " does not exist!");
+        }
+    }
+
+    // Only the requested ids leave the persons cache. They are evicted once the deletes commit, so a concurrent
+    // cache miss cannot put back a person that is still visible to it.
+    @Transactional
+    public PersonBulkDeleteResult deleteAll(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        logger.info("Deleting " + distinctIds.size() + " persons in bulk!");
+
+        int deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += DELETE_CHUNK_SIZE) {
+            int to = Math.min(from + DELETE_CHUNK_SIZE, distinctIds.size());
+            deleted += this.repository.deletePersonsByIdIn(distinctIds.subList(from, to));
+        }
+        afterCommit(() -> evictAll(distinctIds));
+        return new PersonBulkDeleteResult(distinctIds.size(), deleted);
+    }
+
+    private void evictAll(List<Long> ids) {
+        Cache cache = this.cacheManager.getCache(CacheConfiguration.PERSONS_CACHE);
+        if (cache == null) {
+            return;
+        }
+        for (Long id : ids) {
+            cache.evict(id);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private PersonRead readById(Long id) {
+        PersonRoutingDataSource.resetReplicaRead();
+        Person person = loadById(id);
+        return new PersonRead(person, PersonRoutingDataSource.isReplicaRead());
+    }
+
+    private Person loadById(Long id) {
+        Optional<Person> person = this.repository.findById(id);
+        if(person.isPresent()) {
+            return person.get();
+        }
+        throw new IllegalStateException("Person with given id: " + id + " does not exist!");
+    }
+
+    private static PersonPage toPage(List<Person> persons, int limit) {
+        if (persons.size() > limit) {
+            List<Person> page = persons.subList(0, limit);
+            return new PersonPage(page, page.get(limit - 1).getId());
+        }
+        return new PersonPage(persons, null);
+    }
+
+    private static String toContainsPattern(String query) {
+        String escaped = query.strip().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    static RuntimeException translateEmailConflict(DataIntegrityViolationException e, String conflictMessage) {
+        String message = e.getMostSpecificCause().getMessage();
+        if (message != null && message.toLowerCase(Locale.ROOT).contains(EMAIL_UNIQUE_INDEX)) {
+            return new PersonConflictException(conflictMessage, e);
+        }
+        return e;
+    }
+
+    private record FlightKey(Long id, boolean primaryForced) {
+    }
+
+    private record PersonRead(Person person, boolean fromReplica) {
     }
 
 }
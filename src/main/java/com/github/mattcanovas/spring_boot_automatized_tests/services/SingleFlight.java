@@ -0,0 +1,89 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.services;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonLookupTimeoutException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Collapses concurrent loads of the same key into one: the first caller runs the loader, the callers that
+// arrive while it is running wait for its result, or its exception, for at most the given timeout.
+public class SingleFlight<K, V> {
+
+    public static final String METRIC_NAME = "person.coalescing.calls";
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final String operation;
+
+    private final Duration timeout;
+
+    private final Counter executed;
+
+    private final Counter coalesced;
+
+    private final Counter timedOut;
+
+    public SingleFlight(String operation, Duration timeout, MeterRegistry meterRegistry) {
+        this.operation = operation;
+        this.timeout = timeout;
+        this.executed = counter(meterRegistry, operation, "executed");
+        this.coalesced = counter(meterRegistry, operation, "coalesced");
+        this.timedOut = counter(meterRegistry, operation, "timed_out");
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = this.inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            this.executed.increment();
+            try {
+                V value = loader.get();
+                flight.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                this.inFlight.remove(key, flight);
+            }
+        }
+
+        this.coalesced.increment();
+        try {
+            return existing.get(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            this.timedOut.increment();
+            throw new PersonLookupTimeoutException("Waited more than " + this.timeout + " for " + this.operation
+                    + " of " + key + "!", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersonLookupTimeoutException("Interrupted while waiting for " + this.operation + " of " + key + "!", e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Counter.builder(METRIC_NAME)
+                .description("Person lookups by outcome: executed against the database, or coalesced into one in flight")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+}
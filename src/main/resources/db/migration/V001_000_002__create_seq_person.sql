@@ -0,0 +1,3 @@
+CREATE SEQUENCE IF NOT EXISTS public.seq_person
+    START WITH 1
+    INCREMENT BY 50;
@@ -0,0 +1,14 @@
+-- The old check-then-insert let duplicated e-mails through, and case variants of one address were never
+-- compared. The oldest row keeps each normalized address; the others are renamed to
+-- duplicate+<id_person>.<email> so the index can be built, and are left to be merged or deleted by hand:
+--   SELECT * FROM public.tb_person WHERE email LIKE 'duplicate+%' ORDER BY email;
+UPDATE public.tb_person p
+   SET email = LEFT('duplicate+' || p.id_person || '.' || LOWER(TRIM(p.email)), 400)
+ WHERE EXISTS (SELECT 1
+                 FROM public.tb_person o
+                WHERE LOWER(TRIM(o.email)) = LOWER(TRIM(p.email))
+                  AND o.id_person < p.id_person);
+
+UPDATE public.tb_person SET email = LOWER(TRIM(email)) WHERE email <> LOWER(TRIM(email));
+
+CREATE UNIQUE INDEX IF NOT EXISTS uidx_person_email ON public.tb_person (email);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_person_first_name_last_name ON public.tb_person (first_name, last_name);
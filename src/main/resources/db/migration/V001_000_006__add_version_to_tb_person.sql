@@ -0,0 +1 @@
+ALTER TABLE public.tb_person ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
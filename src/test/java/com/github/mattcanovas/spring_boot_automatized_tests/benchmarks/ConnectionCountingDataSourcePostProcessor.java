@@ -0,0 +1,37 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+public class ConnectionCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final AtomicLong ACQUISITIONS = new AtomicLong();
+
+    public static long acquisitions() {
+        return ACQUISITIONS.get();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[] {DataSource.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("getConnection")) {
+                            ACQUISITIONS.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(dataSource, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+        return bean;
+    }
+
+}
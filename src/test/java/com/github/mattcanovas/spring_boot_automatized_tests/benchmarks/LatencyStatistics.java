@@ -0,0 +1,30 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+public class LatencyStatistics {
+
+    private final long[] sortedNanos;
+
+    public LatencyStatistics(long[] nanos) {
+        this.sortedNanos = Arrays.copyOf(nanos, nanos.length);
+        Arrays.sort(this.sortedNanos);
+    }
+
+    public double percentileMicros(double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * this.sortedNanos.length) - 1;
+        long nanos = this.sortedNanos[Math.max(0, Math.min(index, this.sortedNanos.length - 1))];
+        return nanos / (double) TimeUnit.MICROSECONDS.toNanos(1);
+    }
+
+    public double maxMicros() {
+        return percentileMicros(100.0);
+    }
+
+    public String summary() {
+        return String.format("p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+                percentileMicros(50), percentileMicros(90), percentileMicros(99), percentileMicros(99.9), maxMicros());
+    }
+
+}
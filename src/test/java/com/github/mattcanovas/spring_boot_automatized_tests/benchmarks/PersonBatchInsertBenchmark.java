@@ -0,0 +1,90 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.benchmarks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureTestDatabase
+public class PersonBatchInsertBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000);
+
+    private static final int WARMUP_ROWS = Integer.getInteger("benchmark.warmup-rows", 2_000);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final Logger logger = LoggerFactory.getLogger(PersonBatchInsertBenchmark.class);
+
+    private final PersonService service;
+
+    private final PersonRepository repository;
+
+    @Autowired
+    public PersonBatchInsertBenchmark(PersonService service, PersonRepository repository) {
+        this.service = service;
+        this.repository = repository;
+    }
+
+    @BeforeEach
+    public void setup() {
+        this.repository.deleteAllInBatch();
+    }
+
+    @Test
+    public void benchmarkSingleInsertPathAgainstBatchInsertPath() {
+        insertOneByOne(createPersons("warmup-single", WARMUP_ROWS));
+        insertInBatches(createPersons("warmup-batch", WARMUP_ROWS));
+        this.repository.deleteAllInBatch();
+
+        double singleRowsPerSecond = measure(() -> insertOneByOne(createPersons("single", ROWS)));
+        double batchRowsPerSecond = measure(() -> insertInBatches(createPersons("batch", ROWS)));
+
+        logger.info(String.format("Inserted %d rows: single insert path %.0f rows/s, batch insert path %.0f rows/s (%.1fx)",
+                ROWS, singleRowsPerSecond, batchRowsPerSecond, batchRowsPerSecond / singleRowsPerSecond));
+        assertThat(this.repository.count(), is(2L * ROWS));
+    }
+
+    private double measure(Runnable insert) {
+        long start = System.nanoTime();
+        insert.run();
+        long elapsed = System.nanoTime() - start;
+        return ROWS / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private void insertOneByOne(List<Person> persons) {
+        persons.forEach(this.service::create);
+    }
+
+    private void insertInBatches(List<Person> persons) {
+        for (int from = 0; from < persons.size(); from += BATCH_SIZE) {
+            this.service.createAll(persons.subList(from, Math.min(persons.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private List<Person> createPersons(String prefix, int rows) {
+        List<Person> persons = new ArrayList<>(rows);
+        for (int index = 0; index < rows; index++) {
+            persons.add(PersonFactory.createCustomPerson("First " + index, "Last " + index,
+                    prefix + "-" + index + "@gmail.com"));
+        }
+        return persons;
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.benchmarks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+
+import com.sun.management.ThreadMXBean;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase
+public class PersonNameLookupBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+
+    private static final int WARMUP_ITERATIONS = Integer.getInteger("benchmark.warmup-iterations", 5_000);
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 20_000);
+
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    private final Logger logger = LoggerFactory.getLogger(PersonNameLookupBenchmark.class);
+
+    private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final PersonService service;
+
+    private final PersonRepository repository;
+
+    @Autowired
+    public PersonNameLookupBenchmark(PersonService service, PersonRepository repository) {
+        this.service = service;
+        this.repository = repository;
+    }
+
+    @BeforeEach
+    public void setup() {
+        this.repository.deleteAllInBatch();
+        for (int from = 0; from < ROWS; from += SEED_BATCH_SIZE) {
+            List<Person> persons = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int index = from; index < Math.min(ROWS, from + SEED_BATCH_SIZE); index++) {
+                persons.add(PersonFactory.createCustomPerson(firstName(index), lastName(index), "lookup-" + index + "@gmail.com"));
+            }
+            this.service.createAll(persons);
+        }
+    }
+
+    @Test
+    public void benchmarkFirstNameAndLastNameLookupVariants() {
+        Map<String, BiFunction<String, String, Optional<Person>>> variants = new LinkedHashMap<>();
+        variants.put("JPQL indexes parameters", this.repository::findByFirstNameAndLastNameWithJPQLIndexesParameters);
+        variants.put("JPQL named parameters", this.repository::findByFirstNameAndLastNameWithJPQLNamedParameters);
+        variants.put("Native indexes parameters", this.repository::findByFirstNameAndLastNameWithNativeQueryIndexesParameters);
+        variants.put("Native named parameters", this.repository::findByFirstNameAndLastNameWithNativeQueryNamedParameters);
+
+        variants.forEach((name, lookup) -> run(lookup, WARMUP_ITERATIONS));
+        variants.forEach((name, lookup) -> {
+            long allocatedBefore = this.threadMXBean.getCurrentThreadAllocatedBytes();
+            long[] nanos = run(lookup, ITERATIONS);
+            long allocatedBytes = this.threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+            logger.info(String.format("%-26s %s alloc=%d B/op", name, new LatencyStatistics(nanos).summary(),
+                    allocatedBytes / ITERATIONS));
+        });
+
+        assertThat(this.repository.count(), is((long) ROWS));
+    }
+
+    private long[] run(BiFunction<String, String, Optional<Person>> lookup, int iterations) {
+        Random random = new Random(42);
+        long[] nanos = new long[iterations];
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            int index = random.nextInt(ROWS);
+            long start = System.nanoTime();
+            Optional<Person> person = lookup.apply(firstName(index), lastName(index));
+            nanos[iteration] = System.nanoTime() - start;
+            assertThat(person.isPresent(), is(true));
+        }
+        return nanos;
+    }
+
+    private static String firstName(int index) {
+        return "First " + index;
+    }
+
+    private static String lastName(int index) {
+        return "Last " + index;
+    }
+
+}
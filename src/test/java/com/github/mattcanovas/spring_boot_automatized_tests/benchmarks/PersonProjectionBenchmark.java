@@ -0,0 +1,145 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.benchmarks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonField;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonFieldsPage;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPage;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+
+import com.sun.management.ThreadMXBean;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureTestDatabase
+public class PersonProjectionBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.page-size", 500);
+
+    private static final int WARMUP_PASSES = Integer.getInteger("benchmark.warmup-passes", 3);
+
+    private static final int PASSES = Integer.getInteger("benchmark.passes", 5);
+
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    private final Logger logger = LoggerFactory.getLogger(PersonProjectionBenchmark.class);
+
+    private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final PersonService service;
+
+    private final PersonRepository repository;
+
+    private final ObjectMapper mapper;
+
+    @Autowired
+    public PersonProjectionBenchmark(PersonService service, PersonRepository repository, ObjectMapper mapper) {
+        this.service = service;
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    @BeforeEach
+    public void setup() {
+        this.repository.deleteAllInBatch();
+        for (int from = 0; from < ROWS; from += SEED_BATCH_SIZE) {
+            List<Person> persons = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int index = from; index < Math.min(ROWS, from + SEED_BATCH_SIZE); index++) {
+                persons.add(PersonFactory.createCustomPerson("First " + index, "Last " + index, "projection-" + index + "@gmail.com"));
+            }
+            this.service.createAll(persons);
+        }
+    }
+
+    @Test
+    public void benchmarkFullEntityPagesAgainstProjectionPages() {
+        Map<String, PageReader> variants = new LinkedHashMap<>();
+        variants.put("Full entity", after -> {
+            PersonPage page = this.service.findPage(after, PAGE_SIZE);
+            return new PageRead(page.persons().size(), this.mapper.writeValueAsBytes(page.persons()).length, page.nextCursor());
+        });
+        variants.put("Projection id,email", after -> {
+            PersonFieldsPage page = this.service.findFieldsPage(EnumSet.of(PersonField.ID, PersonField.EMAIL), after, PAGE_SIZE);
+            return new PageRead(page.persons().size(), this.mapper.writeValueAsBytes(page.persons()).length, page.nextCursor());
+        });
+
+        for (int pass = 0; pass < WARMUP_PASSES; pass++) {
+            variants.forEach((name, reader) -> readAllPages(reader));
+        }
+        variants.forEach((name, reader) -> {
+            List<Long> nanos = new ArrayList<>();
+            long rows = 0;
+            long payloadBytes = 0;
+            long allocatedBefore = this.threadMXBean.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            for (int pass = 0; pass < PASSES; pass++) {
+                for (PageRead page : readAllPages(reader, nanos)) {
+                    rows += page.rows();
+                    payloadBytes += page.payloadBytes();
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            long allocatedBytes = this.threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+            assertThat(rows, is((long) ROWS * PASSES));
+            logger.info(String.format("%-20s page=%d %s rows/s=%.0f alloc=%d B/row payload=%d B/row", name, PAGE_SIZE,
+                    new LatencyStatistics(nanos.stream().mapToLong(Long::longValue).toArray()).summary(),
+                    rows / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1)),
+                    allocatedBytes / rows, payloadBytes / rows));
+        });
+    }
+
+    private List<PageRead> readAllPages(PageReader reader) {
+        return readAllPages(reader, new ArrayList<>());
+    }
+
+    private List<PageRead> readAllPages(PageReader reader, List<Long> nanos) {
+        List<PageRead> pages = new ArrayList<>();
+        Long after = null;
+        do {
+            long start = System.nanoTime();
+            PageRead page;
+            try {
+                page = reader.read(after);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+            nanos.add(System.nanoTime() - start);
+            pages.add(page);
+            after = page.nextCursor();
+        } while (after != null);
+        return pages;
+    }
+
+    @FunctionalInterface
+    private interface PageReader {
+        PageRead read(Long after) throws JsonProcessingException;
+    }
+
+    private record PageRead(int rows, int payloadBytes, Long nextCursor) {
+    }
+
+}
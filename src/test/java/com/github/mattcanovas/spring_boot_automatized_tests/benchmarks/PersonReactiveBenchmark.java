@@ -0,0 +1,80 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.benchmarks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mattcanovas.spring_boot_automatized_tests.SprintBootAutomatizedTestsApplication;
+import com.github.mattcanovas.spring_boot_automatized_tests.loadtest.LoadOperation;
+import com.github.mattcanovas.spring_boot_automatized_tests.loadtest.LoadTestHarness;
+import com.github.mattcanovas.spring_boot_automatized_tests.loadtest.LoadTestResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.loadtest.LoadTestSettings;
+
+public class PersonReactiveBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1_000);
+
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 50);
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 10));
+
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.duration-seconds", 30));
+
+    private final Logger logger = LoggerFactory.getLogger(PersonReactiveBenchmark.class);
+
+    @Test
+    public void benchmarkBlockingV1AgainstReactiveV2FindById() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SprintBootAutomatizedTestsApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--person.r2dbc.url=r2dbc:h2:mem:///reactive;DB_CLOSE_DELAY=-1",
+                        "--person.r2dbc.pool.max-size=" + POOL_SIZE,
+                        "--spring.cache.type=none",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "--server.tomcat.max-connections=" + (CLIENTS * 2),
+                        "--logging.level.com.github.mattcanovas.spring_boot_automatized_tests=WARN")) {
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper mapper = context.getBean(ObjectMapper.class);
+
+            LoadTestResult blocking = run(baseUrl + "/v1/person", baseUrl, mapper);
+            LoadTestResult reactive = run(baseUrl + "/v2/person", baseUrl, mapper);
+
+            logger.info(String.format("%d clients, pool of %d: v1 %.0f req/s p99=%.1fms, v2 %.0f req/s p99=%.1fms (%.1fx)",
+                    CLIENTS, POOL_SIZE,
+                    blocking.totalThroughput(), p99(blocking), reactive.totalThroughput(), p99(reactive),
+                    reactive.totalThroughput() / blocking.totalThroughput()));
+
+            assertThat(blocking.totalErrors(), is(0L));
+            assertThat(reactive.totalErrors(), is(0L));
+        }
+    }
+
+    private LoadTestResult run(String apiUrl, String baseUrl, ObjectMapper mapper) throws Exception {
+        LoadTestSettings settings = new LoadTestSettings(CLIENTS, WARMUP, DURATION, CLIENTS,
+                Map.of(LoadOperation.GET_BY_ID, 1), Double.MAX_VALUE, Double.MAX_VALUE, 1, 0);
+        LoadTestHarness harness = new LoadTestHarness(apiUrl, baseUrl + "/v1/person/batch", settings, mapper);
+        harness.seed();
+        LoadTestResult result = harness.run();
+        logger.info(apiUrl + System.lineSeparator() + result.report());
+        return result;
+    }
+
+    private static double p99(LoadTestResult result) {
+        return result.statistics().get(LoadOperation.GET_BY_ID).percentileMillis(99);
+    }
+
+}
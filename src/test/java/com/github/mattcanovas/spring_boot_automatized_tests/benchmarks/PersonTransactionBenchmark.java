@@ -0,0 +1,134 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.benchmarks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+
+import com.sun.management.ThreadMXBean;
+
+// Runs against a Hikari pool, not an embedded test database, so that auto-commit is disabled by the pool
+// the same way as in production.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:transaction-benchmark;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.cache.type=none",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@Import(ConnectionCountingDataSourcePostProcessor.class)
+public class PersonTransactionBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000);
+
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.page-size", 100);
+
+    private static final int WARMUP_ITERATIONS = Integer.getInteger("benchmark.warmup-iterations", 2_000);
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10_000);
+
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    private final Logger logger = LoggerFactory.getLogger(PersonTransactionBenchmark.class);
+
+    private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final PersonService service;
+
+    private final PersonRepository repository;
+
+    private final TransactionTemplate readWriteTransaction;
+
+    private List<Long> ids;
+
+    @Autowired
+    public PersonTransactionBenchmark(PersonService service, PersonRepository repository,
+            PlatformTransactionManager transactionManager) {
+        this.service = service;
+        this.repository = repository;
+        this.readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @BeforeEach
+    public void setup() {
+        this.repository.deleteAllInBatch();
+        this.ids = new ArrayList<>(ROWS);
+        for (int from = 0; from < ROWS; from += SEED_BATCH_SIZE) {
+            List<Person> persons = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int index = from; index < Math.min(ROWS, from + SEED_BATCH_SIZE); index++) {
+                persons.add(PersonFactory.createCustomPerson("First " + index, "Last " + index, "transaction-" + index + "@gmail.com"));
+            }
+            this.service.createAll(persons).forEach(result -> this.ids.add(result.person().getId()));
+        }
+    }
+
+    @Test
+    public void benchmarkTransactionBoundaries() {
+        Map<String, IntConsumer> variants = new LinkedHashMap<>();
+        variants.put("Update, transaction per call", index -> {
+            // What PersonService.update did without a transaction of its own: find and save commit separately.
+            Person entity = this.repository.findById(this.ids.get(index)).get();
+            entity.setLastName("Last " + index + "'");
+            this.repository.save(entity);
+        });
+        variants.put("Update, one transaction", index -> {
+            Person person = PersonFactory.createCustomPerson("First " + index, "Last " + index + "'",
+                    "transaction-" + index + "@gmail.com");
+            person.setId(this.ids.get(index));
+            this.service.update(person);
+        });
+        variants.put("Page, read-write", index -> this.readWriteTransaction.executeWithoutResult(status ->
+                this.repository.findByIdGreaterThanOrderByIdAsc(this.ids.get(index) - 1, Limit.of(PAGE_SIZE))));
+        variants.put("Page, read-only", index -> this.service.findPage(this.ids.get(index) - 1, PAGE_SIZE));
+
+        variants.forEach((name, operation) -> run(operation, WARMUP_ITERATIONS));
+        variants.forEach((name, operation) -> {
+            long acquisitionsBefore = ConnectionCountingDataSourcePostProcessor.acquisitions();
+            long allocatedBefore = this.threadMXBean.getCurrentThreadAllocatedBytes();
+            long[] nanos = run(operation, ITERATIONS);
+            long allocatedBytes = this.threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+            long acquisitions = ConnectionCountingDataSourcePostProcessor.acquisitions() - acquisitionsBefore;
+
+            logger.info(String.format("%-28s %s connections=%.2f/op alloc=%d B/op", name,
+                    new LatencyStatistics(nanos).summary(), acquisitions / (double) ITERATIONS, allocatedBytes / ITERATIONS));
+        });
+
+        assertThat(this.repository.count(), is((long) ROWS));
+    }
+
+    private long[] run(IntConsumer operation, int iterations) {
+        Random random = new Random(42);
+        long[] nanos = new long[iterations];
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            int index = random.nextInt(ROWS);
+            long start = System.nanoTime();
+            operation.accept(index);
+            nanos[iteration] = System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+}
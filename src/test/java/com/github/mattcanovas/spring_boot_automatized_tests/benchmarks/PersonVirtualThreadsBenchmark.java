@@ -0,0 +1,91 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.benchmarks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mattcanovas.spring_boot_automatized_tests.SprintBootAutomatizedTestsApplication;
+import com.github.mattcanovas.spring_boot_automatized_tests.loadtest.LoadOperation;
+import com.github.mattcanovas.spring_boot_automatized_tests.loadtest.LoadTestHarness;
+import com.github.mattcanovas.spring_boot_automatized_tests.loadtest.LoadTestResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.loadtest.LoadTestSettings;
+
+public class PersonVirtualThreadsBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1_000);
+
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 500);
+
+    private static final long SLOW_QUERY_MILLIS = Long.getLong("benchmark.slow-query-millis", 50);
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 10));
+
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.duration-seconds", 30));
+
+    private final Logger logger = LoggerFactory.getLogger(PersonVirtualThreadsBenchmark.class);
+
+    @Test
+    public void benchmarkPlatformThreadsAgainstVirtualThreadsWithSlowQueries() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads need a Java 21 runtime (-Pjava21)");
+
+        LoadTestResult platform = run("platform-threads");
+        LoadTestResult virtual = run("virtual-threads", "virtual-threads");
+
+        logger.info(String.format("%d clients, %dms queries, pool of %d: platform threads %.0f req/s p99=%.1fms, virtual threads %.0f req/s p99=%.1fms (%.1fx)",
+                CLIENTS, SLOW_QUERY_MILLIS, POOL_SIZE,
+                platform.totalThroughput(), p99(platform), virtual.totalThroughput(), p99(virtual),
+                virtual.totalThroughput() / platform.totalThroughput()));
+
+        assertThat(platform.totalErrors(), is(0L));
+        assertThat(virtual.totalErrors(), is(0L));
+    }
+
+    private LoadTestResult run(String name, String... additionalProfiles) throws Exception {
+        String[] profiles = new String[additionalProfiles.length + 1];
+        profiles[0] = "test";
+        System.arraycopy(additionalProfiles, 0, profiles, 1, additionalProfiles.length);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                SprintBootAutomatizedTestsApplication.class, SlowQueryDataSourcePostProcessor.class)
+                .profiles(profiles)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                        "--spring.datasource.hikari.connection-timeout=30000",
+                        "--spring.cache.type=none",
+                        "--person.concurrency-limit.enabled=false",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "--server.tomcat.max-connections=" + (CLIENTS * 2),
+                        "--" + SlowQueryDataSourcePostProcessor.DELAY_PROPERTY + "=" + SLOW_QUERY_MILLIS,
+                        "--logging.level.com.github.mattcanovas.spring_boot_automatized_tests=WARN")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestSettings settings = new LoadTestSettings(CLIENTS, WARMUP, DURATION, CLIENTS * 2,
+                    Map.of(LoadOperation.GET_BY_ID, 1), Double.MAX_VALUE, Double.MAX_VALUE, 1, 0);
+            LoadTestHarness harness = new LoadTestHarness("http://localhost:" + port + "/v1/person", settings,
+                    context.getBean(ObjectMapper.class));
+            harness.seed();
+            LoadTestResult result = harness.run();
+            logger.info(name + System.lineSeparator() + result.report());
+            return result;
+        }
+    }
+
+    private static double p99(LoadTestResult result) {
+        return result.statistics().get(LoadOperation.GET_BY_ID).percentileMillis(99);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    public static final String DELAY_PROPERTY = "benchmark.slow-query-millis";
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+
+    private final long delayMillis;
+
+    public SlowQueryDataSourcePostProcessor(Environment environment) {
+        this.delayMillis = environment.getProperty(DELAY_PROPERTY, Long.class, 50L);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, this::wrapConnection);
+        }
+        return bean;
+    }
+
+    private Object wrapConnection(Method method, Object result) {
+        return result instanceof Connection connection ? proxy(Connection.class, connection, this::wrapStatement) : result;
+    }
+
+    private Object wrapStatement(Method method, Object result) throws InterruptedException {
+        if (result instanceof CallableStatement statement) {
+            return proxy(CallableStatement.class, statement, this::delayExecution);
+        }
+        if (result instanceof PreparedStatement statement) {
+            return proxy(PreparedStatement.class, statement, this::delayExecution);
+        }
+        if (result instanceof Statement statement) {
+            return proxy(Statement.class, statement, this::delayExecution);
+        }
+        return result;
+    }
+
+    private Object delayExecution(Method method, Object result) throws InterruptedException {
+        if (EXECUTE_METHODS.contains(method.getName())) {
+            // Sleeping outside of any monitor lets a virtual thread unmount, like waiting on the database socket would.
+            Thread.sleep(this.delayMillis);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultDecorator decorator) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            return decorator.decorate(method, result);
+        });
+    }
+
+    @FunctionalInterface
+    private interface ResultDecorator {
+        Object decorate(Method method, Object result) throws InterruptedException;
+    }
+
+}
@@ -5,12 +5,16 @@ import java.util.stream.Stream;
 
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.test.context.ContextConfiguration;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.lifecycle.Startables;
 
+import com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatementCountPostProcessor;
+
+@Import(SqlStatementCountPostProcessor.class)
 @ContextConfiguration(initializers = AbstractIntegrationConfiguration.Initializer.class)
 public class AbstractIntegrationConfiguration {
     public static class Initializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
@@ -25,7 +29,11 @@ public class AbstractIntegrationConfiguration {
             return Map.of(
                 "spring.datasource.url", postgres.getJdbcUrl(),
                 "spring.datasource.username", postgres.getUsername(),
-                "spring.datasource.password", postgres.getPassword()
+                "spring.datasource.password", postgres.getPassword(),
+                "person.r2dbc.url", "r2dbc:postgresql://" + postgres.getHost() + ":"
+                        + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName(),
+                "person.r2dbc.username", postgres.getUsername(),
+                "person.r2dbc.password", postgres.getPassword()
             );
         }
 
@@ -1,8 +1,17 @@
 package com.github.mattcanovas.spring_boot_automatized_tests.integration.controllers;
 
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.delete;
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.expectStatements;
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.insert;
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.other;
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.select;
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.update;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertNotNull;
 
 import java.util.Arrays;
@@ -18,15 +27,19 @@ import org.springframework.boot.test.context.SpringBootTest;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.mattcanovas.spring_boot_automatized_tests.configurations.IntegrationEnvironmentConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.controllers.PersonController;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPatch;
 import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
 import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
 import com.github.mattcanovas.spring_boot_automatized_tests.integration.AbstractIntegrationConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements;
 
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.filter.log.LogDetail;
 import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 
 @TestMethodOrder(OrderAnnotation.class)
@@ -55,6 +68,7 @@ public class PersonControllerIntegrationTest extends AbstractIntegrationConfigur
     @Test
     @Order(1)
     public void integrationTestGivenPersonObject_When_CreateOnePerson_ShouldReturnAPersonObject() throws Exception {
+        SqlStatements.reset();
         String response = RestAssured.given()
                 .spec(specification)
                 .contentType(IntegrationEnvironmentConfiguration.CONTENT_TYPE_JSON)
@@ -67,6 +81,8 @@ public class PersonControllerIntegrationTest extends AbstractIntegrationConfigur
                 .response()
                 .asString();
 
+        expectStatements(insert(1));
+
         Person createdPerson = mapper.readValue(response, Person.class);
         person = createdPerson;
 
@@ -87,6 +103,7 @@ public class PersonControllerIntegrationTest extends AbstractIntegrationConfigur
         person.setFirstName("Miguel");
         person.setLastName("O'hara");
 
+        SqlStatements.reset();
         String response = RestAssured.given().spec(specification)
                 .contentType(IntegrationEnvironmentConfiguration.CONTENT_TYPE_JSON)
                 .body(person)
@@ -98,6 +115,8 @@ public class PersonControllerIntegrationTest extends AbstractIntegrationConfigur
                 .body()
                 .asString();
 
+        expectStatements(update(1));
+
         Person updatedPerson = mapper.readValue(response, Person.class);
         person = updatedPerson;
 
@@ -116,6 +135,7 @@ public class PersonControllerIntegrationTest extends AbstractIntegrationConfigur
     @Test
     @Order(3)
     public void integrationTestGivenPersonObject_When_FindById_ShouldReturnAPersonObject() throws Exception {
+        SqlStatements.reset();
         String response = RestAssured.given().spec(specification)
                 .pathParam("id", person.getId())
                 .when()
@@ -126,6 +146,8 @@ public class PersonControllerIntegrationTest extends AbstractIntegrationConfigur
                 .body()
                 .asString();
 
+        expectStatements();
+
         Person foundedPerson = mapper.readValue(response, Person.class);
 
         assertNotNull(foundedPerson);
@@ -152,6 +174,7 @@ public class PersonControllerIntegrationTest extends AbstractIntegrationConfigur
                 .then()
                 .statusCode(201);
 
+        SqlStatements.reset();
         String response = RestAssured.given().spec(specification)
                 .when()
                 .get()
@@ -161,6 +184,8 @@ public class PersonControllerIntegrationTest extends AbstractIntegrationConfigur
                 .body()
                 .asString();
 
+        expectStatements(select(1));
+
         List<Person> persons = Arrays.asList(mapper.readValue(response, Person[].class));
 
         Person firstPerson = persons.get(0);
@@ -188,13 +213,318 @@ public class PersonControllerIntegrationTest extends AbstractIntegrationConfigur
 
     @Test
     @Order(5)
+    public void integrationTestGivenPersonList_When_FindAllWithLimit_ShouldFollowNextCursor() throws Exception {
+        SqlStatements.reset();
+        Response firstPage = RestAssured.given().spec(specification)
+                .queryParam("limit", 1)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .header("Link", containsString("rel=\"next\""))
+                .header(PersonController.NEXT_CURSOR_HEADER, notNullValue())
+                .extract()
+                .response();
+
+        List<Person> firstPersons = Arrays.asList(mapper.readValue(firstPage.asString(), Person[].class));
+
+        String secondResponse = RestAssured.given().spec(specification)
+                .queryParam("limit", 1)
+                .queryParam("after", firstPage.getHeader(PersonController.NEXT_CURSOR_HEADER))
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract()
+                .body()
+                .asString();
+
+        expectStatements(select(2));
+
+        List<Person> secondPersons = Arrays.asList(mapper.readValue(secondResponse, Person[].class));
+
+        assertThat(firstPersons.size(), is(1));
+        assertThat(secondPersons.size(), is(1));
+        assertThat(firstPersons.get(0).getId(), is(person.getId()));
+        assertThat(secondPersons.get(0).getId(), greaterThan(person.getId()));
+    }
+
+    @Test
+    @Order(6)
+    public void integrationTestGivenPersonList_When_Export_ShouldReturnOneJsonLinePerPerson() throws Exception {
+        SqlStatements.reset();
+        String response = RestAssured.given().spec(specification)
+                .when()
+                .get("export")
+                .then()
+                .statusCode(200)
+                .contentType(containsString("application/x-ndjson"))
+                .extract()
+                .body()
+                .asString();
+
+        expectStatements(select(1));
+
+        String[] lines = response.split("\n");
+        Person firstPerson = mapper.readValue(lines[0], Person.class);
+
+        assertThat(lines.length, is(2));
+        assertThat(firstPerson.getId(), is(person.getId()));
+        assertThat(firstPerson.getEmail(), is(person.getEmail()));
+    }
+
+    @Test
+    @Order(7)
+    public void integrationTestGivenPersonsList_When_CreateAll_ShouldReportCreatedAndDuplicatedPersons() throws Exception {
+        List<Person> persons = List.of(
+                PersonFactory.createCustomPerson("Gwen", "Stacy", "ghostspider@gmail.com"),
+                PersonFactory.createCustomPerson("Peter", "Parker", person.getEmail()));
+
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .contentType(IntegrationEnvironmentConfiguration.CONTENT_TYPE_JSON)
+                .body(persons)
+                .when()
+                .post("batch")
+                .then()
+                .statusCode(200)
+                .body("size()", is(2))
+                .body("[0].status", is("CREATED"))
+                .body("[0].person.id", notNullValue())
+                .body("[1].status", is("DUPLICATE_EMAIL"));
+
+        expectStatements(select(1), insert(1));
+    }
+
+    @Test
+    @Order(8)
+    public void integrationTestGivenPersonObjectWithTakenEmail_When_Create_ShouldReturnConflict() throws Exception {
+        Person samePersonEmail = PersonFactory.createCustomPerson("Peter", "Parker", person.getEmail().toUpperCase());
+
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .contentType(IntegrationEnvironmentConfiguration.CONTENT_TYPE_JSON)
+                .body(samePersonEmail)
+                .when()
+                .post()
+                .then()
+                .statusCode(409);
+
+        expectStatements(insert(1));
+    }
+
+    @Test
+    @Order(9)
+    public void integrationTestGivenCurrentETag_When_FindById_ShouldReturnNotModified() throws Exception {
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .pathParam("id", person.getId())
+                .header("If-None-Match", "\"" + person.getVersion() + "\"")
+                .when()
+                .get("{id}")
+                .then()
+                .statusCode(304);
+
+        expectStatements();
+    }
+
+    @Test
+    @Order(10)
+    public void integrationTestGivenStaleETag_When_UpdateOnePerson_ShouldReturnPreconditionFailed() throws Exception {
+        person.setFirstName("Gwen");
+
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .contentType(IntegrationEnvironmentConfiguration.CONTENT_TYPE_JSON)
+                .header("If-Match", "\"" + (person.getVersion() - 1) + "\"")
+                .body(person)
+                .when()
+                .put()
+                .then()
+                .statusCode(412);
+
+        expectStatements();
+    }
+
+    @Test
+    @Order(11)
+    public void integrationTestGivenPersonPatch_When_Patch_ShouldReturnNoContent() throws Exception {
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .contentType(IntegrationEnvironmentConfiguration.CONTENT_TYPE_JSON)
+                .pathParam("id", person.getId())
+                .body(new PersonPatch(null, "Parker", null))
+                .when()
+                .patch("{id}")
+                .then()
+                .statusCode(204);
+
+        expectStatements(update(1));
+    }
+
+    @Test
+    @Order(12)
     public void integrationTestGivenPersonObject_When_Delete_ShouldReturnNoContent() throws Exception {
+        SqlStatements.reset();
         RestAssured.given().spec(specification)
                 .pathParam("id", person.getId())
                 .when()
                 .delete("{id}")
                 .then()
                 .statusCode(204);
+
+        expectStatements(delete(1));
+    }
+
+    @Test
+    @Order(13)
+    public void integrationTestGivenDeletedPerson_When_Delete_ShouldReturnNotFound() throws Exception {
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .pathParam("id", person.getId())
+                .when()
+                .delete("{id}")
+                .then()
+                .statusCode(404);
+
+        expectStatements(delete(1));
+    }
+
+    @Test
+    @Order(14)
+    public void integrationTestGivenIdsList_When_DeleteAll_ShouldReturnDeletedCount() throws Exception {
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .contentType(IntegrationEnvironmentConfiguration.CONTENT_TYPE_JSON)
+                .body(List.of(person.getId(), Long.MAX_VALUE))
+                .when()
+                .delete()
+                .then()
+                .statusCode(200)
+                .body("requested", is(2))
+                .body("deleted", is(0));
+
+        expectStatements(delete(1));
+    }
+
+    @Test
+    @Order(15)
+    public void integrationTestGivenEmailFragment_When_Search_ShouldReturnMatchingPersons() throws Exception {
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .queryParam("q", "GHOSTSPIDER")
+                .when()
+                .get("search")
+                .then()
+                .statusCode(200)
+                .body("size()", is(1))
+                .body("[0].email", is("ghostspider@gmail.com"));
+
+        expectStatements(select(1));
+    }
+
+    @Test
+    @Order(16)
+    public void integrationTestGivenFields_When_FindAll_ShouldReturnOnlySelectedFields() throws Exception {
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .queryParam("fields", "id,email")
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .body("[0].id", notNullValue())
+                .body("[0].email", notNullValue())
+                .body("[0].firstName", nullValue());
+
+        expectStatements(select(1));
+    }
+
+    @Test
+    @Order(17)
+    public void integrationTestGivenIds_When_Lookup_ShouldLoadOnlyUncachedPersons() throws Exception {
+        Long id = RestAssured.given().spec(specification)
+                .queryParam("q", "ghostspider")
+                .when()
+                .get("search")
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath()
+                .getLong("[0].id");
+
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .queryParam("ids", Long.MAX_VALUE + "," + id)
+                .when()
+                .get("lookup")
+                .then()
+                .statusCode(200)
+                .body("persons.size()", is(1))
+                .body("persons[0].email", is("ghostspider@gmail.com"))
+                .body("missing", is(List.of(Long.MAX_VALUE)));
+        expectStatements(select(1));
+
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .queryParam("ids", id)
+                .when()
+                .get("lookup")
+                .then()
+                .statusCode(200)
+                .body("persons[0].email", is("ghostspider@gmail.com"));
+        expectStatements();
+    }
+
+    @Test
+    @Order(18)
+    public void integrationTestGivenFields_When_FindById_ShouldReturnOnlySelectedFields() throws Exception {
+        Long id = RestAssured.given().spec(specification)
+                .queryParam("q", "ghostspider")
+                .when()
+                .get("search")
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath()
+                .getLong("[0].id");
+
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .pathParam("id", id)
+                .queryParam("fields", "email")
+                .when()
+                .get("{id}")
+                .then()
+                .statusCode(200)
+                .body("email", is("ghostspider@gmail.com"))
+                .body("firstName", nullValue());
+
+        expectStatements(select(1));
+    }
+
+    @Test
+    @Order(19)
+    public void integrationTestGivenCsv_When_Import_ShouldReturnImportedAndRejectedCounts() throws Exception {
+        SqlStatements.reset();
+        RestAssured.given().spec(specification)
+                .contentType(PersonController.TEXT_CSV_VALUE)
+                .body("""
+                        first_name,last_name,email
+                        Jessica,Drew,csv.spiderwoman@gmail.com
+                        Gwen,Stacy,GHOSTSPIDER@gmail.com
+                        """)
+                .when()
+                .post("import")
+                .then()
+                .statusCode(200)
+                .body("rows", is(2))
+                .body("imported", is(1))
+                .body("rejected", is(1));
+
+        // CREATE TEMPORARY TABLE and the INSERT ... SELECT from it, which starts with a WITH clause. The rows
+        // themselves are streamed through the driver's COPY API, which is not a JDBC statement.
+        expectStatements(other(2));
     }
 
 }
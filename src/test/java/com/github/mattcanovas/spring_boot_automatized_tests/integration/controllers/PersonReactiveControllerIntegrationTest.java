@@ -0,0 +1,130 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.integration.controllers;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.IntegrationEnvironmentConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.PersonRow;
+import com.github.mattcanovas.spring_boot_automatized_tests.integration.AbstractIntegrationConfiguration;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.specification.RequestSpecification;
+
+@TestMethodOrder(OrderAnnotation.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+public class PersonReactiveControllerIntegrationTest extends AbstractIntegrationConfiguration {
+
+    private static RequestSpecification specification;
+
+    private static Long personId;
+
+    @BeforeAll
+    public static void setup() {
+        specification = new RequestSpecBuilder()
+                .setBasePath("/v2/person")
+                .setPort(IntegrationEnvironmentConfiguration.SERVER_PORT)
+                .addFilter(new RequestLoggingFilter(LogDetail.ALL))
+                .addFilter(new ResponseLoggingFilter(LogDetail.ALL))
+                .build();
+    }
+
+    @Test
+    @Order(1)
+    public void integrationTestGivenPersonRow_When_CreateOnePerson_ShouldReturnAPersonRowWithSequenceId() throws Exception {
+        personId = RestAssured.given().spec(specification)
+                .contentType(IntegrationEnvironmentConfiguration.CONTENT_TYPE_JSON)
+                .body(new PersonRow(null, "Gwen", "Stacy", " Gwen.Stacy@Gmail.com ", null))
+                .when()
+                .post()
+                .then()
+                .statusCode(201)
+                .body("id", notNullValue())
+                .body("email", is("gwen.stacy@gmail.com"))
+                .body("version", is(0))
+                .extract()
+                .jsonPath()
+                .getLong("id");
+    }
+
+    @Test
+    @Order(2)
+    public void integrationTestGivenPersonRowWithTakenEmail_When_CreateOnePerson_ShouldReturnConflict() throws Exception {
+        RestAssured.given().spec(specification)
+                .contentType(IntegrationEnvironmentConfiguration.CONTENT_TYPE_JSON)
+                .body(new PersonRow(null, "Gwen", "Stacy", "GWEN.STACY@gmail.com", null))
+                .when()
+                .post()
+                .then()
+                .statusCode(409);
+    }
+
+    @Test
+    @Order(3)
+    public void integrationTestGivenPersonId_When_FindByIdOnBothApis_ShouldReturnTheSameRow() throws Exception {
+        RestAssured.given().spec(specification)
+                .pathParam("id", personId)
+                .when()
+                .get("{id}")
+                .then()
+                .statusCode(200)
+                .body("email", is("gwen.stacy@gmail.com"));
+
+        RestAssured.given().spec(specification)
+                .basePath("/v1/person")
+                .pathParam("id", personId)
+                .when()
+                .get("{id}")
+                .then()
+                .statusCode(200)
+                .body("email", is("gwen.stacy@gmail.com"));
+    }
+
+    @Test
+    @Order(4)
+    public void integrationTestGivenPersons_When_StreamAll_ShouldReturnNdjsonLines() throws Exception {
+        RestAssured.given().spec(specification)
+                .accept("application/x-ndjson")
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .contentType(containsString("application/x-ndjson"))
+                .body(containsString("\"email\":\"gwen.stacy@gmail.com\""));
+    }
+
+    @Test
+    @Order(5)
+    public void integrationTestGivenUnknownPersonId_When_FindById_ShouldReturnNotFound() throws Exception {
+        RestAssured.given().spec(specification)
+                .pathParam("id", Long.MAX_VALUE)
+                .when()
+                .get("{id}")
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    @Order(6)
+    public void integrationTestGivenCreatedPerson_When_DeleteThroughV1_ShouldReturnNoContent() throws Exception {
+        RestAssured.given().spec(specification)
+                .basePath("/v1/person")
+                .pathParam("id", personId)
+                .when()
+                .delete("{id}")
+                .then()
+                .statusCode(204);
+    }
+
+}
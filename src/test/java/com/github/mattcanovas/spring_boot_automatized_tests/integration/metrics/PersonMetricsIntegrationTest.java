@@ -0,0 +1,73 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.integration.metrics;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.IntegrationEnvironmentConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.integration.AbstractIntegrationConfiguration;
+
+import io.restassured.RestAssured;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT,
+        properties = "spring.profiles.include=metrics")
+public class PersonMetricsIntegrationTest extends AbstractIntegrationConfiguration {
+
+    @Test
+    public void testGivenMetricsProfile_WhenPersonEndpointsAreCalled_ThenPrometheusExposesEndpointServiceHibernateAndPoolMetrics() {
+        Person person = PersonFactory.createCustomPerson("Harry", "Osborn", "harry.osborn@gmail.com");
+        Long id = RestAssured.given()
+                .port(IntegrationEnvironmentConfiguration.SERVER_PORT)
+                .basePath("/v1/person")
+                .contentType(IntegrationEnvironmentConfiguration.CONTENT_TYPE_JSON)
+                .body(person)
+                .when()
+                .post()
+                .then()
+                .statusCode(201)
+                .extract()
+                .jsonPath()
+                .getLong("id");
+
+        RestAssured.given()
+                .port(IntegrationEnvironmentConfiguration.SERVER_PORT)
+                .basePath("/v1/person")
+                .pathParam("id", id)
+                .when()
+                .get("{id}")
+                .then()
+                .statusCode(200);
+
+        RestAssured.given()
+                .port(IntegrationEnvironmentConfiguration.SERVER_PORT)
+                .basePath("/actuator/prometheus")
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .body(allOf(
+                        containsString("http_server_requests_seconds_bucket{"),
+                        containsString("uri=\"/v1/person/{id}\""),
+                        containsString("person_service_seconds_bucket{"),
+                        containsString("method=\"findById\""),
+                        containsString("hibernate_statements_total"),
+                        containsString("hibernate_entities_loads_total"),
+                        containsString("hibernate_second_level_cache_requests_total"),
+                        containsString("hikaricp_connections_active"),
+                        containsString("hikaricp_connections_acquire_seconds")));
+
+        RestAssured.given()
+                .port(IntegrationEnvironmentConfiguration.SERVER_PORT)
+                .basePath("/v1/person")
+                .pathParam("id", id)
+                .when()
+                .delete("{id}")
+                .then()
+                .statusCode(204);
+    }
+
+}
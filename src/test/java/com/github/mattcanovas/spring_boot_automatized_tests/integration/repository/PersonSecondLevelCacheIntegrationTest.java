@@ -0,0 +1,94 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.integration.repository;
+
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.expectStatements;
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.select;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.integration.AbstractIntegrationConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
+import com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class PersonSecondLevelCacheIntegrationTest extends AbstractIntegrationConfiguration {
+
+    private final PersonRepository repository;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private Person person0_;
+
+    @Autowired
+    public PersonSecondLevelCacheIntegrationTest(PersonRepository repository, EntityManagerFactory entityManagerFactory) {
+        this.repository = repository;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @BeforeEach
+    public void setup() {
+        person0_ = this.repository.save(PersonFactory.createCustomPerson("Eddie", "Brock", "venom@gmail.com"));
+        this.entityManagerFactory.getCache().evictAll();
+        SqlStatements.reset();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        this.repository.deleteById(person0_.getId());
+    }
+
+    @Test
+    public void testGivenSavedPerson_WhenFindByIdTwice_ThenSecondReadIsServedFromSecondLevelCache() {
+        this.repository.findById(person0_.getId());
+        expectStatements(select(1));
+
+        SqlStatements.reset();
+        this.repository.findById(person0_.getId());
+        expectStatements();
+    }
+
+    @Test
+    public void testGivenSavedPerson_WhenFindByEmailTwice_ThenSecondReadIsServedFromQueryCache() {
+        this.repository.findByEmail(person0_.getEmail());
+        expectStatements(select(1));
+
+        SqlStatements.reset();
+        Person person = this.repository.findByEmail(person0_.getEmail()).get();
+        expectStatements();
+        assertThat(person.getId(), is(person0_.getId()));
+    }
+
+    @Test
+    public void testGivenSavedPerson_WhenFindByFirstNameAndLastNameTwice_ThenSecondReadIsServedFromQueryCache() {
+        this.repository.findByFirstNameAndLastNameWithJPQLNamedParameters(person0_.getFirstName(), person0_.getLastName());
+        expectStatements(select(1));
+
+        SqlStatements.reset();
+        this.repository.findByFirstNameAndLastNameWithJPQLNamedParameters(person0_.getFirstName(), person0_.getLastName());
+        expectStatements();
+    }
+
+    @Test
+    public void testGivenCachedQuery_WhenPersonIsUpdated_ThenQueryCacheIsInvalidated() {
+        this.repository.findByEmail(person0_.getEmail());
+
+        Person person = this.repository.findById(person0_.getId()).get();
+        person.setFirstName("Venom");
+        this.repository.save(person);
+        SqlStatements.reset();
+
+        this.repository.findByEmail(person0_.getEmail());
+
+        expectStatements(select(1));
+    }
+
+}
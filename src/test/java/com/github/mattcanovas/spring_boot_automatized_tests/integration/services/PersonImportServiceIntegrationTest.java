@@ -0,0 +1,78 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.integration.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonImportResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.integration.AbstractIntegrationConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonImportService;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class PersonImportServiceIntegrationTest extends AbstractIntegrationConfiguration {
+
+    private static final List<String> EMAILS = List.of(
+            "import.kamala@gmail.com", "import.bruno@gmail.com", "import.nakia@gmail.com", "import.kwame@gmail.com");
+
+    private final PersonImportService importService;
+
+    private final PersonService service;
+
+    private final PersonRepository repository;
+
+    @Autowired
+    public PersonImportServiceIntegrationTest(PersonImportService importService, PersonService service,
+            PersonRepository repository) {
+        this.importService = importService;
+        this.service = service;
+        this.repository = repository;
+    }
+
+    @AfterEach
+    public void cleanup() {
+        EMAILS.forEach(email -> this.repository.findByEmail(email).ifPresent(this.repository::delete));
+    }
+
+    @Test
+    public void testGivenCsvWithDuplicatedAndInvalidRows_WhenImportCsvOnPostgres_ThenCopyOnlyNewValidPersons() throws Exception {
+        this.repository.save(PersonFactory.createCustomPerson("Kamala", "Khan", "import.kamala@gmail.com"));
+        assertThat(this.repository.findByEmail("import.bruno@gmail.com").isPresent(), is(false));
+
+        PersonImportResult result = this.importService.importCsv(new ByteArrayInputStream("""
+                first_name,last_name,email
+                Kamala,Khan,IMPORT.KAMALA@gmail.com
+                Bruno,Carrelli,import.bruno@gmail.com
+                "Nakia, Dora",Bahadir,import.nakia@gmail.com
+                Bruno,Again,import.bruno@gmail.com
+                Zoe,Zimmer,not-an-email
+                """.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.rows(), is(5L));
+        assertThat(result.imported(), is(2L));
+        assertThat(result.rejected(), is(3L));
+
+        Person bruno = this.repository.findByEmail("import.bruno@gmail.com").get();
+        Person nakia = this.repository.findByEmail("import.nakia@gmail.com").get();
+        assertThat(bruno.getLastName(), is("Carrelli"));
+        assertThat(bruno.getVersion(), is(0L));
+        assertThat(nakia.getFirstName(), is("Nakia, Dora"));
+
+        Person kwame = this.service.create(PersonFactory.createCustomPerson("Kwame", "Hazel", "import.kwame@gmail.com"));
+        assertThat(kwame.getId(), not(bruno.getId()));
+        assertThat(kwame.getId(), not(nakia.getId()));
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.integration.services;
+
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.expectStatements;
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.update;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPatch;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.integration.AbstractIntegrationConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+import com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class PersonServicePatchIntegrationTest extends AbstractIntegrationConfiguration {
+
+    private final PersonService service;
+
+    private final PersonRepository repository;
+
+    private Person person0_;
+
+    @Autowired
+    public PersonServicePatchIntegrationTest(PersonService service, PersonRepository repository) {
+        this.service = service;
+        this.repository = repository;
+    }
+
+    @BeforeEach
+    public void setup() {
+        person0_ = this.repository.save(PersonFactory.createCustomPerson("Miles", "Morales", "miles.morales@gmail.com"));
+        SqlStatements.reset();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        this.repository.deleteById(person0_.getId());
+    }
+
+    @Test
+    public void testGivenPersonPatch_WhenPatchPerson_ThenRunExactlyOneStatement() {
+        this.service.patch(person0_.getId(), new PersonPatch("Miguel", null, null));
+
+        expectStatements(update(1));
+
+        Person patchedPerson = this.repository.findById(person0_.getId()).get();
+        assertThat(patchedPerson.getFirstName(), is("Miguel"));
+        assertThat(patchedPerson.getLastName(), is(person0_.getLastName()));
+        assertThat(patchedPerson.getVersion(), is(person0_.getVersion() + 1));
+    }
+
+    @Test
+    public void testGivenPersonIdThatDoesNotExist_WhenPatchPerson_ThenRunExactlyOneStatement() {
+        assertThrows(IllegalStateException.class, () -> {
+            this.service.patch(Long.MAX_VALUE, new PersonPatch("Miguel", null, null));
+        });
+
+        expectStatements(update(1));
+    }
+
+}
@@ -4,14 +4,24 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 
 import com.github.mattcanovas.spring_boot_automatized_tests.integration.controllers.PersonControllerIntegrationTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.integration.controllers.PersonReactiveControllerIntegrationTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.integration.metrics.PersonMetricsIntegrationTest;
 import com.github.mattcanovas.spring_boot_automatized_tests.integration.repository.PersonRepositoryIntegrationTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.integration.repository.PersonSecondLevelCacheIntegrationTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.integration.services.PersonImportServiceIntegrationTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.integration.services.PersonServicePatchIntegrationTest;
 import com.github.mattcanovas.spring_boot_automatized_tests.integration.swagger.SwaggerIntegrationTest;
 
 @Suite
 @SelectClasses({
         PersonRepositoryIntegrationTest.class,
+        PersonSecondLevelCacheIntegrationTest.class,
+        PersonServicePatchIntegrationTest.class,
+        PersonImportServiceIntegrationTest.class,
         SwaggerIntegrationTest.class,
-        PersonControllerIntegrationTest.class
+        PersonMetricsIntegrationTest.class,
+        PersonControllerIntegrationTest.class,
+        PersonReactiveControllerIntegrationTest.class
 })
 public class IntegrationSuite {
 
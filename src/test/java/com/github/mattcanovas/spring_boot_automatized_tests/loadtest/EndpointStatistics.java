@@ -0,0 +1,97 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.loadtest;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+public class EndpointStatistics {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LoadOperation operation;
+
+    private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+
+    // Requests turned away with 503 by the concurrency limit: kept apart so the histogram above only holds admitted requests.
+    private final Histogram shedHistogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+
+    private final LongAdder errors = new LongAdder();
+
+    public EndpointStatistics(LoadOperation operation) {
+        this.operation = operation;
+    }
+
+    public void record(long latencyNanos, boolean success) {
+        this.histogram.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (!success) {
+            this.errors.increment();
+        }
+    }
+
+    public void recordShed(long latencyNanos) {
+        this.shedHistogram.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+    }
+
+    public void reset() {
+        this.histogram.reset();
+        this.shedHistogram.reset();
+        this.errors.reset();
+    }
+
+    public LoadOperation getOperation() {
+        return operation;
+    }
+
+    public long getCount() {
+        return this.histogram.getTotalCount();
+    }
+
+    public long getErrors() {
+        return this.errors.sum();
+    }
+
+    public long getShed() {
+        return this.shedHistogram.getTotalCount();
+    }
+
+    // Shed requests count as failures here: an SLO on the error rate must not be met by turning requests away.
+    public double getErrorRate() {
+        long count = getCount() + getShed();
+        return count == 0 ? 0 : (getErrors() + getShed()) / (double) count;
+    }
+
+    public double shedPercentileMillis(double percentile) {
+        return this.shedHistogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    public double getThroughput(double elapsedSeconds) {
+        return getCount() / elapsedSeconds;
+    }
+
+    public double percentileMillis(double percentile) {
+        return this.histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    public double maxMillis() {
+        return this.histogram.getMaxValue() / NANOS_PER_MILLI;
+    }
+
+    public void writePercentileDistribution(PrintStream output) {
+        this.histogram.outputPercentileDistribution(output, NANOS_PER_MILLI);
+    }
+
+    public String summary(double elapsedSeconds) {
+        String summary = String.format("%-10s count=%-8d rps=%-9.1f errors=%-6d (%.3f%%) p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms",
+                this.operation.getKey(), getCount(), getThroughput(elapsedSeconds), getErrors(), getErrorRate() * 100,
+                percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(99.9), maxMillis());
+        if (getShed() == 0) {
+            return summary;
+        }
+        return summary + String.format(" shed=%d p99=%.2fms", getShed(), shedPercentileMillis(99));
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.loadtest;
+
+public enum LoadOperation {
+    GET_BY_ID("get-by-id", 200),
+    GET_ALL("get-all", 200),
+    POST("post", 201),
+    PUT("put", 200),
+    DELETE("delete", 204);
+
+    private final String key;
+
+    private final int expectedStatus;
+
+    LoadOperation(String key, int expectedStatus) {
+        this.key = key;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public static LoadOperation fromKey(String key) {
+        for (LoadOperation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load operation: " + key);
+    }
+}
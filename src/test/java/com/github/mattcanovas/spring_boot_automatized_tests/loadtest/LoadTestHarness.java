@@ -0,0 +1,213 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+
+public class LoadTestHarness {
+
+    private static final String CONTENT_TYPE_JSON = "application/json";
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private static final int PAGE_SIZE = 50;
+
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+
+    private final String seedUrl;
+
+    private final LoadTestSettings settings;
+
+    private final ObjectMapper mapper;
+
+    private final HttpClient client;
+
+    private final Map<LoadOperation, EndpointStatistics> statistics = new EnumMap<>(LoadOperation.class);
+
+    private final LoadOperation[] operations;
+
+    private final int[] cumulativeWeights;
+
+    private final List<Person> seededPersons = new ArrayList<>();
+
+    public LoadTestHarness(String baseUrl, LoadTestSettings settings, ObjectMapper mapper) {
+        this(baseUrl, baseUrl + "/batch", settings, mapper);
+    }
+
+    public LoadTestHarness(String baseUrl, String seedUrl, LoadTestSettings settings, ObjectMapper mapper) {
+        if (settings.seedPersons() < settings.clients()) {
+            throw new IllegalArgumentException("Load test needs at least one seeded person per client");
+        }
+        this.baseUrl = baseUrl;
+        this.seedUrl = seedUrl;
+        this.settings = settings;
+        this.mapper = mapper;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        this.operations = settings.mix().keySet().toArray(new LoadOperation[0]);
+        this.cumulativeWeights = new int[this.operations.length];
+        int total = 0;
+        for (int index = 0; index < this.operations.length; index++) {
+            total += settings.mix().get(this.operations[index]);
+            this.cumulativeWeights[index] = total;
+        }
+        for (LoadOperation operation : this.operations) {
+            this.statistics.put(operation, new EndpointStatistics(operation));
+        }
+    }
+
+    public void seed() throws IOException, InterruptedException {
+        String run = UUID.randomUUID().toString();
+        for (int from = 0; from < this.settings.seedPersons(); from += SEED_BATCH_SIZE) {
+            List<Person> persons = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int index = from; index < Math.min(this.settings.seedPersons(), from + SEED_BATCH_SIZE); index++) {
+                persons.add(new Person("Seed" + index, "Person", "seed-" + run + "-" + index + "@loadtest.io"));
+            }
+            HttpResponse<String> response = this.client.send(jsonRequest(this.seedUrl)
+                    .POST(BodyPublishers.ofString(this.mapper.writeValueAsString(persons)))
+                    .build(), BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Could not seed persons, status: " + response.statusCode());
+            }
+            for (JsonNode result : this.mapper.readTree(response.body())) {
+                this.seededPersons.add(this.mapper.treeToValue(result.get("person"), Person.class));
+            }
+        }
+    }
+
+    public LoadTestResult run() throws InterruptedException {
+        runPhase(this.settings.warmup());
+        this.statistics.values().forEach(EndpointStatistics::reset);
+
+        long start = System.nanoTime();
+        runPhase(this.settings.duration());
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return new LoadTestResult(this.statistics, elapsedSeconds);
+    }
+
+    private void runPhase(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(this.settings.clients());
+        try {
+            List<Callable<Void>> clients = new ArrayList<>(this.settings.clients());
+            for (int index = 0; index < this.settings.clients(); index++) {
+                int clientIndex = index;
+                clients.add(() -> {
+                    runClient(clientIndex, deadline);
+                    return null;
+                });
+            }
+            executor.invokeAll(clients);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runClient(int clientIndex, long deadline) throws JsonProcessingException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Every client works on its own slice of the seeded persons and only deletes the persons
+        // it created itself, so no request races with another client and all of them must succeed.
+        List<Person> ownPersons = new ArrayList<>();
+        for (int index = clientIndex; index < this.seededPersons.size(); index += this.settings.clients()) {
+            ownPersons.add(this.seededPersons.get(index));
+        }
+        Deque<Long> createdIds = new ArrayDeque<>();
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            LoadOperation operation = nextOperation(random);
+            if (operation == LoadOperation.DELETE && createdIds.isEmpty()) {
+                operation = LoadOperation.POST;
+            }
+            HttpRequest request = buildRequest(operation, random, ownPersons, createdIds);
+
+            long start = System.nanoTime();
+            HttpResponse<String> response = null;
+            try {
+                response = this.client.send(request, BodyHandlers.ofString());
+            } catch (IOException e) {
+                // Transport failures are recorded as errors below.
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long latency = System.nanoTime() - start;
+
+            if (response != null && response.statusCode() == SERVICE_UNAVAILABLE) {
+                this.statistics.get(operation).recordShed(latency);
+                continue;
+            }
+            boolean success = response != null && response.statusCode() == operation.getExpectedStatus();
+            this.statistics.get(operation).record(latency, success);
+            if (success && operation == LoadOperation.POST) {
+                createdIds.push(this.mapper.readTree(response.body()).get("id").asLong());
+            }
+        }
+    }
+
+    private LoadOperation nextOperation(ThreadLocalRandom random) {
+        int pick = random.nextInt(this.cumulativeWeights[this.cumulativeWeights.length - 1]);
+        for (int index = 0; index < this.cumulativeWeights.length; index++) {
+            if (pick < this.cumulativeWeights[index]) {
+                return this.operations[index];
+            }
+        }
+        return this.operations[this.operations.length - 1];
+    }
+
+    private HttpRequest buildRequest(LoadOperation operation, ThreadLocalRandom random, List<Person> ownPersons,
+            Deque<Long> createdIds) throws JsonProcessingException {
+        Person seeded = ownPersons.get(random.nextInt(ownPersons.size()));
+        return switch (operation) {
+            case GET_BY_ID -> jsonRequest(this.baseUrl + "/" + seeded.getId()).GET().build();
+            case GET_ALL -> jsonRequest(this.baseUrl + "?limit=" + PAGE_SIZE).GET().build();
+            case POST -> {
+                Person person = new Person("Load", "Test", "load-" + UUID.randomUUID() + "@loadtest.io");
+                yield jsonRequest(this.baseUrl)
+                        .POST(BodyPublishers.ofString(this.mapper.writeValueAsString(person)))
+                        .build();
+            }
+            case PUT -> {
+                Person person = new Person("Updated" + random.nextInt(1000), seeded.getLastName(), seeded.getEmail());
+                person.setId(seeded.getId());
+                yield jsonRequest(this.baseUrl)
+                        .PUT(BodyPublishers.ofString(this.mapper.writeValueAsString(person)))
+                        .build();
+            }
+            case DELETE -> jsonRequest(this.baseUrl + "/" + createdIds.pop()).DELETE().build();
+        };
+    }
+
+    private HttpRequest.Builder jsonRequest(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", CONTENT_TYPE_JSON)
+                .header("Accept", CONTENT_TYPE_JSON);
+    }
+}
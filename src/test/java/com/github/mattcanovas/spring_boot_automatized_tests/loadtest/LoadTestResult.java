@@ -0,0 +1,64 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public record LoadTestResult(Map<LoadOperation, EndpointStatistics> statistics, double elapsedSeconds) {
+
+    public String report() {
+        StringBuilder report = new StringBuilder(String.format("Load test finished in %.1fs%n", this.elapsedSeconds));
+        this.statistics.values().forEach(endpoint -> report.append(endpoint.summary(this.elapsedSeconds)).append(System.lineSeparator()));
+        return report.toString();
+    }
+
+    public double totalThroughput() {
+        return this.statistics.values().stream().mapToLong(EndpointStatistics::getCount).sum() / this.elapsedSeconds;
+    }
+
+    public long totalErrors() {
+        return this.statistics.values().stream().mapToLong(EndpointStatistics::getErrors).sum();
+    }
+
+    public long totalShed() {
+        return this.statistics.values().stream().mapToLong(EndpointStatistics::getShed).sum();
+    }
+
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (EndpointStatistics endpoint : this.statistics.values()) {
+            try (PrintStream output = new PrintStream(Files.newOutputStream(directory.resolve(endpoint.getOperation().getKey() + ".hgrm")))) {
+                endpoint.writePercentileDistribution(output);
+            }
+        }
+    }
+
+    public List<String> sloViolations(LoadTestSettings settings) {
+        List<String> violations = new ArrayList<>();
+        for (EndpointStatistics endpoint : this.statistics.values()) {
+            String key = endpoint.getOperation().getKey();
+            if (endpoint.getCount() == 0) {
+                violations.add(key + ": no requests were completed");
+                continue;
+            }
+            if (endpoint.percentileMillis(99) > settings.sloP99Millis()) {
+                violations.add(String.format("%s: p99 %.2fms > %.2fms", key, endpoint.percentileMillis(99), settings.sloP99Millis()));
+            }
+            if (endpoint.percentileMillis(99.9) > settings.sloP999Millis()) {
+                violations.add(String.format("%s: p99.9 %.2fms > %.2fms", key, endpoint.percentileMillis(99.9), settings.sloP999Millis()));
+            }
+            if (endpoint.getErrorRate() > settings.sloErrorRate()) {
+                violations.add(String.format("%s: error rate %.4f > %.4f", key, endpoint.getErrorRate(), settings.sloErrorRate()));
+            }
+        }
+        double throughput = totalThroughput();
+        if (throughput < settings.sloMinThroughput()) {
+            violations.add(String.format("total throughput %.1f req/s < %.1f req/s", throughput, settings.sloMinThroughput()));
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record LoadTestSettings(
+        int clients,
+        Duration warmup,
+        Duration duration,
+        int seedPersons,
+        Map<LoadOperation, Integer> mix,
+        double sloP99Millis,
+        double sloP999Millis,
+        double sloErrorRate,
+        double sloMinThroughput) {
+
+    private static final String PREFIX = "loadtest.";
+
+    private static final String DEFAULT_MIX = "get-by-id=50,get-all=15,post=15,put=15,delete=5";
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger(PREFIX + "clients", 32),
+                Duration.ofSeconds(Long.getLong(PREFIX + "warmup-seconds", 10)),
+                Duration.ofSeconds(Long.getLong(PREFIX + "duration-seconds", 60)),
+                Integer.getInteger(PREFIX + "seed-persons", 1_000),
+                parseMix(System.getProperty(PREFIX + "mix", DEFAULT_MIX)),
+                doubleProperty("slo.p99-millis", 250),
+                doubleProperty("slo.p999-millis", 1_000),
+                doubleProperty("slo.error-rate", 0.001),
+                doubleProperty("slo.min-throughput", 0));
+    }
+
+    static Map<LoadOperation, Integer> parseMix(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] keyAndWeight = entry.trim().split("=");
+            if (keyAndWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid load mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(keyAndWeight[1].trim());
+            if (weight > 0) {
+                weights.put(LoadOperation.fromKey(keyAndWeight[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Load mix must have at least one positive weight: " + mix);
+        }
+        return weights;
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        // Measures raw capacity: shedding is covered by PersonLoadSheddingScenario.
+        "person.concurrency-limit.enabled=false",
+        "logging.level.com.github.mattcanovas=WARN"
+})
+public class PersonLoadScenario {
+
+    private static final Path HISTOGRAMS_DIRECTORY = Path.of("target", "loadtest");
+
+    private final Logger logger = LoggerFactory.getLogger(PersonLoadScenario.class);
+
+    private final int port;
+
+    private final ObjectMapper mapper;
+
+    @Autowired
+    public PersonLoadScenario(@LocalServerPort int port, ObjectMapper mapper) {
+        this.port = port;
+        this.mapper = mapper;
+    }
+
+    @Test
+    public void loadTestPersonEndpointsWithConfiguredMix() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadTestHarness harness = new LoadTestHarness("http://localhost:" + this.port + "/v1/person", settings, this.mapper);
+
+        harness.seed();
+        LoadTestResult result = harness.run();
+        result.writeHistograms(HISTOGRAMS_DIRECTORY);
+        logger.warn("{} clients, mix {}{}{}", settings.clients(), settings.mix(), System.lineSeparator(), result.report());
+
+        List<String> violations = result.sloViolations(settings);
+        assertTrue(violations.isEmpty(), "SLO violations: " + violations);
+    }
+
+}
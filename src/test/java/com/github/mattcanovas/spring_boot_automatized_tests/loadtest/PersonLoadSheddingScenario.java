@@ -0,0 +1,101 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.loadtest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mattcanovas.spring_boot_automatized_tests.SprintBootAutomatizedTestsApplication;
+import com.github.mattcanovas.spring_boot_automatized_tests.benchmarks.SlowQueryDataSourcePostProcessor;
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.ConcurrencyLimitConfiguration;
+
+// Every query is slowed down and far more clients than pooled connections hammer the API, once without and
+// once with the concurrency limit. Without it requests queue for a connection and latency grows with the
+// number of clients; with it the excess is shed with 503 and the admitted requests keep a bounded p99.
+public class PersonLoadSheddingScenario {
+
+    private static final String PREFIX = "loadtest.shedding.";
+
+    private static final int CLIENTS = Integer.getInteger(PREFIX + "clients", 200);
+
+    private static final int POOL_SIZE = Integer.getInteger(PREFIX + "pool-size", 10);
+
+    private static final long SLOW_QUERY_MILLIS = Long.getLong(PREFIX + "slow-query-millis", 20);
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong(PREFIX + "warmup-seconds", 10));
+
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong(PREFIX + "duration-seconds", 30));
+
+    private static final double SLO_P99_MILLIS = Double.parseDouble(System.getProperty(PREFIX + "slo.p99-millis", "500"));
+
+    private static final Map<LoadOperation, Integer> MIX = Map.of(
+            LoadOperation.GET_BY_ID, 60,
+            LoadOperation.GET_ALL, 10,
+            LoadOperation.POST, 10,
+            LoadOperation.PUT, 20);
+
+    private final Logger logger = LoggerFactory.getLogger(PersonLoadSheddingScenario.class);
+
+    @Test
+    public void loadTestSlowDatabaseWithAndWithoutConcurrencyLimit() throws Exception {
+        LoadTestResult unlimited = run("unlimited", false);
+        LoadTestResult limited = run("limited", true);
+
+        logger.warn(String.format("%d clients, %dms queries, pool of %d: admitted p99 without limit %.1fms, with limit %.1fms (%d shed)",
+                CLIENTS, SLOW_QUERY_MILLIS, POOL_SIZE, worstP99(unlimited), worstP99(limited), limited.totalShed()));
+
+        assertThat(limited.totalErrors(), is(0L));
+        assertThat(limited.totalShed(), is(greaterThan(0L)));
+        assertThat(worstP99(limited), is(lessThanOrEqualTo(SLO_P99_MILLIS)));
+        assertThat(worstP99(limited), is(lessThan(worstP99(unlimited))));
+    }
+
+    private LoadTestResult run(String name, boolean concurrencyLimit) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                SprintBootAutomatizedTestsApplication.class, SlowQueryDataSourcePostProcessor.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:shedding-" + name + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                        "--spring.datasource.hikari.connection-timeout=30000",
+                        "--spring.cache.type=none",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "--server.tomcat.threads.max=" + CLIENTS,
+                        "--" + ConcurrencyLimitConfiguration.ENABLED_PROPERTY + "=" + concurrencyLimit,
+                        "--" + SlowQueryDataSourcePostProcessor.DELAY_PROPERTY + "=" + SLOW_QUERY_MILLIS,
+                        "--logging.level.com.github.mattcanovas.spring_boot_automatized_tests=WARN")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestSettings settings = new LoadTestSettings(CLIENTS, WARMUP, DURATION, CLIENTS * 2, MIX,
+                    Double.MAX_VALUE, Double.MAX_VALUE, 1, 0);
+            LoadTestHarness harness = new LoadTestHarness("http://localhost:" + port + "/v1/person", settings,
+                    context.getBean(ObjectMapper.class));
+            harness.seed();
+            LoadTestResult result = harness.run();
+            logger.warn(name + System.lineSeparator() + result.report());
+            return result;
+        }
+    }
+
+    private static double worstP99(LoadTestResult result) {
+        return result.statistics().values().stream()
+                .mapToDouble(endpoint -> endpoint.percentileMillis(99))
+                .max()
+                .orElse(0);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.loadtest.suite;
+
+import org.junit.platform.suite.api.SelectClasses;
+import org.junit.platform.suite.api.Suite;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.loadtest.PersonLoadScenario;
+import com.github.mattcanovas.spring_boot_automatized_tests.loadtest.PersonLoadSheddingScenario;
+
+@Suite
+@SelectClasses({
+        PersonLoadScenario.class,
+        PersonLoadSheddingScenario.class
+})
+public class LoadTestSuite {
+
+}
@@ -0,0 +1,22 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.sqlcount;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+public class SqlStatementCountPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .afterQuery((execution, queries) -> queries.forEach(query -> SqlStatements.record(query.getQuery())))
+                    .build();
+        }
+        return bean;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.sqlcount;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.opentest4j.AssertionFailedError;
+
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+public final class SqlStatements {
+
+    // Pooled-lo id allocation fetches from the sequence only once every allocationSize inserts,
+    // so whether a given insert pays for it depends on earlier tests and it is left out of the budgets.
+    // Only standalone fetches match; statements that call nextval inline, like the import, still count.
+    private static final Pattern SEQUENCE_FETCH = Pattern.compile(
+            "^\\s*(?:(?:select|call)\\s+(?:nextval|next value for)\\b|values\\s+next value for\\b)",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Map<QueryType, AtomicInteger> COUNTS = new EnumMap<>(QueryType.class);
+
+    static {
+        for (QueryType type : QueryType.values()) {
+            COUNTS.put(type, new AtomicInteger());
+        }
+    }
+
+    private SqlStatements() {
+    }
+
+    public static void reset() {
+        COUNTS.values().forEach(count -> count.set(0));
+    }
+
+    public static Budget select(int count) {
+        return new Budget(QueryType.SELECT, count);
+    }
+
+    public static Budget insert(int count) {
+        return new Budget(QueryType.INSERT, count);
+    }
+
+    public static Budget update(int count) {
+        return new Budget(QueryType.UPDATE, count);
+    }
+
+    public static Budget delete(int count) {
+        return new Budget(QueryType.DELETE, count);
+    }
+
+    public static Budget other(int count) {
+        return new Budget(QueryType.OTHER, count);
+    }
+
+    /**
+     * Asserts the statements executed since the last {@link #reset()}. Statement types without a budget must not
+     * have run at all, and a JDBC batch counts as a single statement.
+     */
+    public static void expectStatements(Budget... budgets) {
+        Map<QueryType, Integer> expected = new EnumMap<>(QueryType.class);
+        for (QueryType type : QueryType.values()) {
+            expected.put(type, 0);
+        }
+        for (Budget budget : budgets) {
+            expected.put(budget.type(), budget.count());
+        }
+
+        Map<QueryType, Integer> actual = new EnumMap<>(QueryType.class);
+        COUNTS.forEach((type, count) -> actual.put(type, count.get()));
+
+        if (!expected.equals(actual)) {
+            throw new AssertionFailedError("Unexpected SQL statements", expected, actual);
+        }
+    }
+
+    static void record(String query) {
+        if (!SEQUENCE_FETCH.matcher(query).find()) {
+            COUNTS.get(QueryUtils.getQueryType(query)).incrementAndGet();
+        }
+    }
+
+    public record Budget(QueryType type, int count) {
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.configurations;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.CacheConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.PersonRoutingDataSource;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPatch;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Two unreplicated in-memory H2 databases, as in PersonReplicaRoutingTest, but with the persons cache and the
+// Hibernate second-level and query caches on: a row read from the lagging replica must not end up in them.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=" + PersonReplicaCachingTest.PRIMARY_URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "person.datasource.replica.url=" + PersonReplicaCachingTest.REPLICA_URL
+})
+public class PersonReplicaCachingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:caching-primary;DB_CLOSE_DELAY=-1";
+
+    static final String REPLICA_URL = "jdbc:h2:mem:caching-replica;DB_CLOSE_DELAY=-1";
+
+    private static final long STALE_ID = 1_000_000L;
+
+    private static final String INSERT_PERSON =
+            "INSERT INTO public.tb_person (id_person, first_name, last_name, email, version) VALUES (?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    private final PersonService service;
+
+    private final CacheManager cacheManager;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public PersonReplicaCachingTest(PersonService service, CacheManager cacheManager,
+            EntityManagerFactory entityManagerFactory) {
+        this.service = service;
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @BeforeAll
+    public static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        PersonRoutingDataSource.clearForcePrimary();
+        for (JdbcTemplate database : new JdbcTemplate[] { this.primary, this.replica }) {
+            database.update("DELETE FROM public.tb_person WHERE id_person = ?", STALE_ID);
+        }
+        this.cacheManager.getCache(CacheConfiguration.PERSONS_CACHE).clear();
+        this.entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    public void testGivenStaleReplica_WhenReadWithoutAndThenWithPrimaryForced_ThenReadOwnWriteFromPrimary() {
+        this.primary.update(INSERT_PERSON, STALE_ID, "Peter", "Parker", "caching.peter@gmail.com");
+        this.replica.update(INSERT_PERSON, STALE_ID, "Peter", "Parker", "caching.peter@gmail.com");
+
+        // Nothing replicates the patch, so the replica keeps serving the old first name.
+        this.service.patch(STALE_ID, new PersonPatch("Ben", null, null));
+
+        assertThat(this.service.findById(STALE_ID).getFirstName(), is("Peter"));
+        assertThat(this.service.findAllById(List.of(STALE_ID)).persons().get(0).getFirstName(), is("Peter"));
+
+        PersonRoutingDataSource.forcePrimary();
+        assertThat(this.service.findById(STALE_ID).getFirstName(), is("Ben"));
+
+        // The read from the primary did fill the caches, which now answer readers routed to the replica too.
+        PersonRoutingDataSource.clearForcePrimary();
+        assertThat(this.service.findById(STALE_ID).getFirstName(), is("Ben"));
+    }
+
+}
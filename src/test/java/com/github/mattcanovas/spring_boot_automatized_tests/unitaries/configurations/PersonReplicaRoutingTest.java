@@ -0,0 +1,129 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.configurations;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.PersonRoutingDataSource;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+import com.zaxxer.hikari.HikariDataSource;
+
+// Two in-memory H2 databases stand in for the primary and the replica. Nothing replicates between
+// them, which makes it visible which one each query was routed to.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=" + PersonReplicaRoutingTest.PRIMARY_URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "person.datasource.replica.url=" + PersonReplicaRoutingTest.REPLICA_URL,
+        "spring.cache.type=none",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+public class PersonReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final long REPLICA_ONLY_ID = 1_000_000L;
+
+    private static final long DIVERGED_ID = 1_000_001L;
+
+    private static final String INSERT_PERSON =
+            "INSERT INTO public.tb_person (id_person, first_name, last_name, email, version) VALUES (?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    private final PersonService service;
+
+    private final DataSource dataSource;
+
+    @Autowired
+    public PersonReplicaRoutingTest(PersonService service, DataSource dataSource) {
+        this.service = service;
+        this.dataSource = dataSource;
+    }
+
+    @BeforeAll
+    public static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        PersonRoutingDataSource.clearForcePrimary();
+        for (JdbcTemplate database : new JdbcTemplate[] { this.primary, this.replica }) {
+            database.update("DELETE FROM public.tb_person WHERE id_person >= ? OR email LIKE 'routing.%'", REPLICA_ONLY_ID);
+        }
+    }
+
+    @Test
+    public void testGivenPersonOnlyOnReplica_WhenFindById_ThenReadItFromReplica() {
+        this.replica.update(INSERT_PERSON, REPLICA_ONLY_ID, "Miles", "Morales", "routing.miles@gmail.com");
+
+        Person person = this.service.findById(REPLICA_ONLY_ID);
+
+        assertThat(person.getEmail(), is("routing.miles@gmail.com"));
+    }
+
+    @Test
+    public void testGivenPersonOnlyOnReplica_WhenFindByIdWithPrimaryForced_ThenThrownIllegalStateException() {
+        this.replica.update(INSERT_PERSON, REPLICA_ONLY_ID, "Miles", "Morales", "routing.miles@gmail.com");
+
+        PersonRoutingDataSource.forcePrimary();
+
+        assertThrows(IllegalStateException.class, () -> this.service.findById(REPLICA_ONLY_ID));
+    }
+
+    @Test
+    public void testGivenPerson_WhenCreatePerson_ThenWriteItToPrimaryOnly() {
+        Person person = this.service.create(PersonFactory.createCustomPerson("Gwen", "Stacy", "routing.gwen@gmail.com"));
+
+        assertThat(countByEmail(this.primary, person.getEmail()), is(1));
+        assertThat(countByEmail(this.replica, person.getEmail()), is(0));
+        assertThrows(IllegalStateException.class, () -> this.service.findById(person.getId()));
+        PersonRoutingDataSource.forcePrimary();
+        assertThat(this.service.findById(person.getId()).getEmail(), is(person.getEmail()));
+    }
+
+    @Test
+    @DirtiesContext
+    public void testGivenReplicaDown_WhenFindById_ThenFallBackToPrimary() {
+        this.primary.update(INSERT_PERSON, DIVERGED_ID, "Peter", "Parker", "routing.peter@gmail.com");
+        this.replica.update(INSERT_PERSON, DIVERGED_ID, "Ben", "Reilly", "routing.peter@gmail.com");
+        PersonRoutingDataSource routing = (PersonRoutingDataSource) ((LazyConnectionDataSourceProxy) this.dataSource)
+                .getTargetDataSource();
+        ((HikariDataSource) routing.getResolvedDataSources().get(PersonRoutingDataSource.Route.REPLICA)).close();
+
+        Person person = this.service.findById(DIVERGED_ID);
+
+        assertThat(person.getFirstName(), is("Peter"));
+        assertThat(routing.isReplicaAvailable(), is(false));
+    }
+
+    private static int countByEmail(JdbcTemplate database, String email) {
+        return database.queryForObject("SELECT COUNT(*) FROM public.tb_person WHERE email = ?", Integer.class, email);
+    }
+
+}
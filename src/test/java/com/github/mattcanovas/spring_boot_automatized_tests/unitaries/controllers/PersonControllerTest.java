@@ -1,35 +1,73 @@
 package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.controllers;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.github.mattcanovas.spring_boot_automatized_tests.controllers.PersonController;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonBatchResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonBulkDeleteResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonField;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonFields;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonFieldsPage;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonImportResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonLookupResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPage;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPatch;
 import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonConflictException;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonLookupTimeoutException;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonVersionMismatchException;
 import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonExportService;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonImportService;
 import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
 
 @WebMvcTest(PersonController.class)
@@ -38,6 +76,12 @@ public class PersonControllerTest {
     @MockitoBean
     private PersonService service;
 
+    @MockitoBean
+    private PersonExportService exportService;
+
+    @MockitoBean
+    private PersonImportService importService;
+
     private final MockMvc mockMvc;
 
     private final ObjectMapper mapper;
@@ -72,16 +116,300 @@ public class PersonControllerTest {
                 .andExpect(jsonPath("$.email", is(person.getEmail())));
     }
 
+    @Test
+    public void testGivenCborPersonObject_WhenCreatePerson_ThenReturnCborSavedPerson() throws Exception {
+        CBORMapper cborMapper = new CBORMapper();
+        given(service.create(any(Person.class))).willAnswer((invocation) -> invocation.getArgument(0));
+
+        MvcResult result = mockMvc.perform(post("/v1/person")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(person)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        Person createdPerson = cborMapper.readValue(result.getResponse().getContentAsByteArray(), Person.class);
+        assertThat(createdPerson.getFirstName(), is(person.getFirstName()));
+        assertThat(createdPerson.getEmail(), is(person.getEmail()));
+    }
+
+    @Test
+    public void testGivenPersonObjectWithTakenEmail_WhenCreatePerson_ThenReturnConflict() throws Exception {
+        given(service.create(any(Person.class))).willThrow(PersonConflictException.class);
+
+        ResultActions response = mockMvc.perform(post("/v1/person")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(person)));
+
+        response.andExpect(status().isConflict())
+                .andDo(print());
+    }
+
+    @Test
+    public void testGivenPersonsList_WhenCreateAllPersons_ThenReturnOneResultPerPerson() throws Exception {
+        Person duplicated = PersonFactory.createCustomPerson("John", "Doe", person.getEmail());
+        given(service.createAll(anyList())).willReturn(List.of(
+                PersonBatchResult.created(0, person),
+                PersonBatchResult.duplicateEmail(1, duplicated)));
+
+        ResultActions response = mockMvc.perform(post("/v1/person/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(List.of(person, duplicated))));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[0].status", is("CREATED")))
+                .andExpect(jsonPath("$[0].person.email", is(person.getEmail())))
+                .andExpect(jsonPath("$[1].index", is(1)))
+                .andExpect(jsonPath("$[1].status", is("DUPLICATE_EMAIL")));
+    }
+
+    @Test
+    public void testGivenEmptyPersonsList_WhenCreateAllPersons_ThenReturnBadRequest() throws Exception {
+        ResultActions response = mockMvc.perform(post("/v1/person/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"));
+
+        verify(service, never()).createAll(anyList());
+        response.andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
     @Test
     public void testGivenRequestedGetPersons_WhenFindAllPersons_ThenReturnListOfPersons() throws Exception {
         List<Person> persons = List.of(person, PersonFactory.createCustomPerson("John", "Doe", "EMAIL"));
-        given(service.findAll()).willReturn(persons);
+        given(service.findPage(isNull(), eq(50))).willReturn(new PersonPage(persons, null));
 
         ResultActions response = mockMvc.perform(get("/v1/person"));
 
         response.andExpect(status().isOk())
                 .andDo(print())
-                .andExpect(jsonPath("$.size()", is(persons.size())));
+                .andExpect(jsonPath("$.size()", is(persons.size())))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
+                .andExpect(header().doesNotExist(PersonController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    public void testGivenSmileAcceptHeader_WhenFindAllPersons_ThenReturnSmileListOfPersons() throws Exception {
+        SmileMapper smileMapper = new SmileMapper();
+        List<Person> persons = List.of(person, PersonFactory.createCustomPerson("John", "Doe", "EMAIL"));
+        given(service.findPage(isNull(), eq(50))).willReturn(new PersonPage(persons, null));
+
+        MvcResult result = mockMvc.perform(get("/v1/person").accept(PersonController.APPLICATION_SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PersonController.APPLICATION_SMILE_VALUE))
+                .andReturn();
+
+        Person[] foundPersons = smileMapper.readValue(result.getResponse().getContentAsByteArray(), Person[].class);
+        assertThat(foundPersons.length, is(persons.size()));
+        assertThat(foundPersons[1].getEmail(), is("EMAIL"));
+    }
+
+    @Test
+    public void testGivenLimitSmallerThanTotal_WhenFindAllPersons_ThenReturnPageWithNextLink() throws Exception {
+        person.setId(1L);
+        given(service.findPage(isNull(), eq(1))).willReturn(new PersonPage(List.of(person), person.getId()));
+
+        ResultActions response = mockMvc.perform(get("/v1/person").param("limit", "1"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(header().exists(PersonController.NEXT_CURSOR_HEADER))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("limit=1")));
+    }
+
+    @Test
+    public void testGivenNextCursor_WhenFindAllPersons_ThenRequestPageAfterCursor() throws Exception {
+        person.setId(2L);
+        given(service.findPage(isNull(), eq(1))).willReturn(new PersonPage(List.of(person), 1L));
+        given(service.findPage(eq(1L), eq(1))).willReturn(new PersonPage(List.of(person), null));
+
+        String cursor = mockMvc.perform(get("/v1/person").param("limit", "1"))
+                .andReturn()
+                .getResponse()
+                .getHeader(PersonController.NEXT_CURSOR_HEADER);
+
+        ResultActions response = mockMvc.perform(get("/v1/person").param("limit", "1").param("after", cursor));
+
+        verify(service, times(1)).findPage(1L, 1);
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(person.getId().intValue())))
+                .andExpect(header().doesNotExist(PersonController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    public void testGivenInvalidCursor_WhenFindAllPersons_ThenReturnBadRequest() throws Exception {
+        ResultActions response = mockMvc.perform(get("/v1/person").param("after", "not-a-cursor"));
+
+        verify(service, never()).findPage(any(), anyInt());
+        response.andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
+    @Test
+    public void testGivenLimitOutOfRange_WhenFindAllPersons_ThenReturnBadRequest() throws Exception {
+        ResultActions response = mockMvc.perform(get("/v1/person").param("limit", "501"));
+
+        verify(service, never()).findPage(any(), anyInt());
+        response.andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
+    @Test
+    public void testGivenFields_WhenFindAllPersons_ThenReturnOnlySelectedFields() throws Exception {
+        PersonFields fields = new PersonFields(1L, idAndEmail(1L, person.getEmail()));
+        given(service.findFieldsPage(eq(EnumSet.of(PersonField.ID, PersonField.EMAIL)), isNull(), eq(1)))
+                .willReturn(new PersonFieldsPage(List.of(fields), fields.id()));
+
+        ResultActions response = mockMvc.perform(get("/v1/person").param("fields", "id,email").param("limit", "1"));
+
+        verify(service, never()).findPage(any(), anyInt());
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[0].email", is(person.getEmail())))
+                .andExpect(jsonPath("$[0].firstName").doesNotExist())
+                .andExpect(header().string(HttpHeaders.LINK, containsString("fields=id,email")));
+    }
+
+    @Test
+    public void testGivenUnknownField_WhenFindAllPersons_ThenReturnBadRequest() throws Exception {
+        ResultActions response = mockMvc.perform(get("/v1/person").param("fields", "id,password"));
+
+        verify(service, never()).findFieldsPage(any(), any(), anyInt());
+        response.andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
+    @Test
+    public void testGivenFields_WhenFindById_ThenReturnOnlySelectedFields() throws Exception {
+        given(service.findFieldsById(EnumSet.of(PersonField.ID, PersonField.EMAIL), 1L))
+                .willReturn(new PersonFields(1L, idAndEmail(1L, person.getEmail())));
+
+        ResultActions response = mockMvc.perform(get("/v1/person/{id}", 1L).param("fields", "id,email"));
+
+        verify(service, never()).findById(any());
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.email", is(person.getEmail())))
+                .andExpect(jsonPath("$.lastName").doesNotExist());
+    }
+
+    @Test
+    public void testGivenFieldsAndIdThatDoesNotExist_WhenFindById_ThenReturnNotFound() throws Exception {
+        given(service.findFieldsById(EnumSet.of(PersonField.EMAIL), 1L))
+                .willThrow(new IllegalStateException("Person with given id: 1 does not exist!"));
+
+        ResultActions response = mockMvc.perform(get("/v1/person/{id}", 1L).param("fields", "email"));
+
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+    @Test
+    public void testGivenIds_WhenFindAllById_ThenReturnPersonsAndMissingIds() throws Exception {
+        person.setId(2L);
+        given(service.findAllById(List.of(2L, 7L))).willReturn(new PersonLookupResult(List.of(person), List.of(7L)));
+
+        ResultActions response = mockMvc.perform(get("/v1/person/lookup").param("ids", "2,7"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.persons[0].id", is(2)))
+                .andExpect(jsonPath("$.persons[0].email", is(person.getEmail())))
+                .andExpect(jsonPath("$.missing[0]", is(7)));
+    }
+
+    @Test
+    public void testGivenTooManyIds_WhenFindAllById_ThenReturnBadRequest() throws Exception {
+        StringBuilder ids = new StringBuilder("1");
+        for (int id = 2; id <= 501; id++) {
+            ids.append(',').append(id);
+        }
+
+        ResultActions response = mockMvc.perform(get("/v1/person/lookup").param("ids", ids.toString()));
+
+        response.andExpect(status().isBadRequest())
+                .andDo(print());
+        verify(service, never()).findAllById(anyList());
+    }
+
+    @Test
+    public void testGivenQuery_WhenSearchPersons_ThenReturnPageWithNextLink() throws Exception {
+        person.setId(1L);
+        given(service.search(eq("canovas"), isNull(), eq(1))).willReturn(new PersonPage(List.of(person), person.getId()));
+
+        ResultActions response = mockMvc.perform(get("/v1/person/search").param("q", "canovas").param("limit", "1"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].email", is(person.getEmail())))
+                .andExpect(header().exists(PersonController.NEXT_CURSOR_HEADER))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("q=canovas")));
+    }
+
+    @Test
+    public void testGivenQueryShorterThanThreeCharacters_WhenSearchPersons_ThenReturnBadRequest() throws Exception {
+        ResultActions response = mockMvc.perform(get("/v1/person/search").param("q", " ab "));
+
+        verify(service, never()).search(anyString(), any(), anyInt());
+        response.andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
+    @Test
+    public void testGivenRequestedExport_WhenExportPersons_ThenStreamNdjsonLines() throws Exception {
+        String line = this.mapper.writeValueAsString(person) + "\n";
+        given(exportService.export(any(OutputStream.class))).willAnswer((invocation) -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write(line.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/v1/person/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(line));
+    }
+
+    @Test
+    public void testGivenCsvBody_WhenImportPersons_ThenReturnImportResult() throws Exception {
+        given(importService.importCsv(any(InputStream.class))).willReturn(new PersonImportResult(3, 2, 1, 10, 300));
+
+        ResultActions response = mockMvc.perform(post("/v1/person/import")
+                .contentType(PersonController.TEXT_CSV_VALUE)
+                .content("first_name,last_name,email\nMiles,Morales,miles@gmail.com\n"));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows", is(3)))
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.rowsPerSecond", is(300)));
+    }
+
+    @Test
+    public void testGivenCsvBodyWithoutHeader_WhenImportPersons_ThenReturnBadRequest() throws Exception {
+        given(importService.importCsv(any(InputStream.class))).willThrow(IllegalArgumentException.class);
+
+        ResultActions response = mockMvc.perform(post("/v1/person/import")
+                .contentType(PersonController.TEXT_CSV_VALUE)
+                .content("Miles,Morales,miles@gmail.com\n"));
+
+        response.andExpect(status().isBadRequest())
+                .andDo(print());
     }
 
     @Test
@@ -109,6 +437,120 @@ public class PersonControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    public void testGivenCoalescedLookupTimingOut_WhenFindById_ThenReturnServiceUnavailable() throws Exception {
+        Long personId = 1L;
+        given(service.findById(personId)).willThrow(PersonLookupTimeoutException.class);
+
+        ResultActions response = mockMvc.perform(get("/v1/person/{id}", personId));
+
+        response.andExpect(status().isServiceUnavailable())
+                .andDo(print());
+    }
+
+    @Test
+    public void testGivenVersionedPerson_WhenFindById_ThenReturnETag() throws Exception {
+        Long personId = 1L;
+        person.setVersion(3L);
+        given(service.findById(personId)).willReturn(person);
+
+        ResultActions response = mockMvc.perform(get("/v1/person/{id}", personId));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    @Test
+    public void testGivenCborAccept_WhenFindById_ThenReturnRepresentationSpecificETag() throws Exception {
+        Long personId = 1L;
+        person.setVersion(3L);
+        given(service.findById(personId)).willReturn(person);
+
+        ResultActions response = mockMvc.perform(get("/v1/person/{id}", personId)
+                .accept(MediaType.APPLICATION_CBOR));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-cbor\""));
+    }
+
+    @Test
+    public void testGivenMatchingIfNoneMatch_WhenFindById_ThenReturnNotModified() throws Exception {
+        Long personId = 1L;
+        person.setVersion(3L);
+        given(service.findById(personId)).willReturn(person);
+
+        ResultActions response = mockMvc.perform(get("/v1/person/{id}", personId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""));
+
+        response.andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void testGivenIfMatch_WhenUpdatePerson_ThenUpdateWithExpectedVersion() throws Exception {
+        person.setId(1L);
+        given(service.update(any(Person.class), eq(3L))).willAnswer((invocation) -> {
+            Person updated = invocation.getArgument(0);
+            updated.setVersion(4L);
+            return updated;
+        });
+
+        ResultActions response = mockMvc.perform(put("/v1/person")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(person)));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+        verify(service, never()).update(any(Person.class));
+    }
+
+    @Test
+    public void testGivenStaleIfMatch_WhenUpdatePerson_ThenReturnPreconditionFailed() throws Exception {
+        person.setId(1L);
+        given(service.update(any(Person.class), eq(2L))).willThrow(PersonVersionMismatchException.class);
+
+        ResultActions response = mockMvc.perform(put("/v1/person")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(person)));
+
+        response.andExpect(status().isPreconditionFailed())
+                .andDo(print());
+    }
+
+    @Test
+    public void testGivenWeakIfMatch_WhenUpdatePerson_ThenReturnPreconditionFailed() throws Exception {
+        person.setId(1L);
+
+        ResultActions response = mockMvc.perform(put("/v1/person")
+                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(person)));
+
+        response.andExpect(status().isPreconditionFailed())
+                .andDo(print());
+        verify(service, never()).update(any(Person.class), anyLong());
+    }
+
+    @Test
+    public void testGivenMalformedIfMatch_WhenUpdatePerson_ThenReturnPreconditionFailed() throws Exception {
+        person.setId(1L);
+
+        ResultActions response = mockMvc.perform(put("/v1/person")
+                .header(HttpHeaders.IF_MATCH, "not-an-etag")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(person)));
+
+        response.andExpect(status().isPreconditionFailed())
+                .andDo(print());
+        verify(service, never()).update(any(Person.class));
+    }
+
     @Test
     public void testGivenPersonIdWithPersonObject_WhenUpdatePerson_ThenReturnUpdatedPersonObject() throws Exception {
         Long personId = 1L;
@@ -142,6 +584,72 @@ public class PersonControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    public void testGivenPersonObjectWithTakenEmail_WhenUpdatePerson_ThenReturnConflict() throws Exception {
+        person.setId(1L);
+        given(service.update(any(Person.class))).willThrow(PersonConflictException.class);
+
+        ResultActions response = mockMvc.perform(put("/v1/person")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(person)));
+
+        response.andExpect(status().isConflict())
+                .andDo(print());
+    }
+
+    @Test
+    public void testGivenPersonPatch_WhenPatchPerson_ThenReturn204() throws Exception {
+        Long personId = 1L;
+        PersonPatch patch = new PersonPatch("Miguel", null, null);
+
+        ResultActions response = mockMvc.perform(patch("/v1/person/{id}", personId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(patch)));
+
+        verify(service, times(1)).patch(personId, patch);
+        response.andExpect(status().isNoContent())
+                .andDo(print());
+    }
+
+    @Test
+    public void testGivenInvalidPersonId_WhenPatchPerson_ThenReturn404() throws Exception {
+        Long personId = 1L;
+        PersonPatch patch = new PersonPatch("Miguel", null, null);
+        willThrow(IllegalStateException.class).given(service).patch(personId, patch);
+
+        ResultActions response = mockMvc.perform(patch("/v1/person/{id}", personId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(patch)));
+
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+    @Test
+    public void testGivenPersonPatchWithTakenEmail_WhenPatchPerson_ThenReturnConflict() throws Exception {
+        Long personId = 1L;
+        PersonPatch patch = new PersonPatch(null, null, person.getEmail());
+        willThrow(PersonConflictException.class).given(service).patch(personId, patch);
+
+        ResultActions response = mockMvc.perform(patch("/v1/person/{id}", personId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(patch)));
+
+        response.andExpect(status().isConflict())
+                .andDo(print());
+    }
+
+    @Test
+    public void testGivenEmptyPersonPatch_WhenPatchPerson_ThenReturnBadRequest() throws Exception {
+        ResultActions response = mockMvc.perform(patch("/v1/person/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"));
+
+        response.andExpect(status().isBadRequest())
+                .andDo(print());
+        verify(service, never()).patch(any(Long.class), any(PersonPatch.class));
+    }
+
     @Test
     public void testGivenPersonId_WhenDeletePerson_ThenReturn204() throws Exception {
         Long personId = 1L;
@@ -166,4 +674,37 @@ public class PersonControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    public void testGivenIdsList_WhenDeleteAllPersons_ThenReturnDeletedCount() throws Exception {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        given(service.deleteAll(ids)).willReturn(new PersonBulkDeleteResult(3, 2));
+
+        ResultActions response = mockMvc.perform(delete("/v1/person")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(ids)));
+
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested", is(3)))
+                .andExpect(jsonPath("$.deleted", is(2)));
+    }
+
+    @Test
+    public void testGivenEmptyIdsList_WhenDeleteAllPersons_ThenReturnBadRequest() throws Exception {
+        ResultActions response = mockMvc.perform(delete("/v1/person")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"));
+
+        response.andExpect(status().isBadRequest())
+                .andDo(print());
+        verify(service, never()).deleteAll(anyList());
+    }
+
+    private static Map<String, Object> idAndEmail(Long id, String email) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", id);
+        values.put("email", email);
+        return values;
+    }
+
 }
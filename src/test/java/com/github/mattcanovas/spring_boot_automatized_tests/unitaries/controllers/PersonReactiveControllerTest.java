@@ -0,0 +1,122 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.controllers;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mattcanovas.spring_boot_automatized_tests.controllers.PersonReactiveController;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.PersonRow;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonConflictException;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonExportService;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonImportService;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonReactiveService;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@WebMvcTest(controllers = PersonReactiveController.class, properties = "person.r2dbc.url=r2dbc:h2:mem:///reactive-controller-test")
+public class PersonReactiveControllerTest {
+
+    @MockitoBean
+    private PersonReactiveService service;
+
+    @MockitoBean
+    private PersonService personService;
+
+    @MockitoBean
+    private PersonExportService exportService;
+
+    @MockitoBean
+    private PersonImportService importService;
+
+    private final MockMvc mockMvc;
+
+    private final ObjectMapper mapper;
+
+    private final PersonRow person = new PersonRow(1L, "Peter", "Parker", "peter.parker@gmail.com", 0L);
+
+    @Autowired
+    public PersonReactiveControllerTest(MockMvc mockMvc, ObjectMapper mapper) {
+        this.mockMvc = mockMvc;
+        this.mapper = mapper;
+    }
+
+    @Test
+    public void testGivenPersonRow_WhenCreatePerson_ThenReturnCreatedPerson() throws Exception {
+        given(service.create(any(PersonRow.class))).willReturn(Mono.just(person));
+
+        MvcResult result = mockMvc.perform(post("/v2/person")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(person)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.email", is(person.email())));
+    }
+
+    @Test
+    public void testGivenPersonRowWithTakenEmail_WhenCreatePerson_ThenReturnConflict() throws Exception {
+        given(service.create(any(PersonRow.class))).willReturn(Mono.error(new PersonConflictException("taken", null)));
+
+        MvcResult result = mockMvc.perform(post("/v2/person")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(person)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void testGivenInvalidPersonId_WhenFindById_ThenReturnNotFound() throws Exception {
+        given(service.findById(1L)).willReturn(Mono.error(new IllegalStateException("Person with given id: 1 does not exist!")));
+
+        MvcResult result = mockMvc.perform(get("/v2/person/{id}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testGivenPersonRows_WhenFindAll_ThenStreamNdjsonLines() throws Exception {
+        PersonRow another = new PersonRow(2L, "Miles", "Morales", "miles.morales@gmail.com", 0L);
+        given(service.findAll()).willReturn(Flux.just(person, another));
+
+        MvcResult result = mockMvc.perform(get("/v2/person").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(this.mapper.writeValueAsString(person) + "\n"
+                        + this.mapper.writeValueAsString(another) + "\n"));
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.filters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.filters.GradientConcurrencyLimit;
+
+public class GradientConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    public void testGivenLimitReached_WhenTryAcquire_ThenRejectUntilAPermitIsReleased() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(2, 1, 10);
+
+        assertThat(limit.tryAcquire(), is(true));
+        assertThat(limit.tryAcquire(), is(true));
+        assertThat(limit.tryAcquire(), is(false));
+
+        limit.release();
+
+        assertThat(limit.tryAcquire(), is(true));
+        assertThat(limit.getInFlight(), is(2));
+    }
+
+    @Test
+    public void testGivenSaturatedLimitWithSteadyLatency_WhenReleasing_ThenGrowTheLimit() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 1, 100);
+
+        sample(limit, FAST, 50);
+
+        assertThat(limit.getLimit(), is(greaterThan(10)));
+    }
+
+    @Test
+    public void testGivenSaturatedLimitWithGrowingLatency_WhenReleasing_ThenShrinkTheLimit() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(40, 4, 100);
+        sample(limit, FAST, 20);
+        int steadyLimit = limit.getLimit();
+
+        sample(limit, SLOW, 20);
+
+        assertThat(limit.getLimit(), is(lessThan(steadyLimit)));
+    }
+
+    @Test
+    public void testGivenMostlyIdleLimit_WhenReleasing_ThenKeepTheLimit() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 1, 100);
+
+        for (int sample = 0; sample < 50; sample++) {
+            limit.tryAcquire();
+            limit.release(FAST);
+        }
+
+        assertThat(limit.getLimit(), is(10));
+    }
+
+    @Test
+    public void testGivenMinimumAboveInitialLimit_WhenCreateLimit_ThenThrownIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new GradientConcurrencyLimit(1, 2, 10));
+    }
+
+    // Keeps the limit saturated, so that every sample is taken while the limit is what holds requests back.
+    private static void sample(GradientConcurrencyLimit limit, long rttNanos, int samples) {
+        for (int sample = 0; sample < samples; sample++) {
+            while (limit.tryAcquire()) {
+                // Fill up to the current limit.
+            }
+            limit.release(rttNanos);
+        }
+        while (limit.getInFlight() > 0) {
+            limit.release();
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.filters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.filters.GradientConcurrencyLimit;
+import com.github.mattcanovas.spring_boot_automatized_tests.filters.PersonConcurrencyLimitFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PersonConcurrencyLimitFilterTest {
+
+    private final GradientConcurrencyLimit readLimit = new GradientConcurrencyLimit(1, 1, 1);
+
+    private final GradientConcurrencyLimit writeLimit = new GradientConcurrencyLimit(1, 1, 1);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PersonConcurrencyLimitFilter filter =
+            new PersonConcurrencyLimitFilter(this.readLimit, this.writeLimit, 2, this.meterRegistry);
+
+    @Test
+    public void testGivenFreePermit_WhenFilter_ThenPassRequestAndReleasePermit() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        this.filter.doFilter(new MockHttpServletRequest("GET", "/v1/person/1"), response, chain);
+
+        assertThat(chain.getRequest(), is(notNullValue()));
+        assertThat(response.getStatus(), is(200));
+        assertThat(this.readLimit.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testGivenReadLimitReached_WhenFilterRead_ThenReturnServiceUnavailableWithRetryAfter() throws Exception {
+        this.readLimit.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        this.filter.doFilter(new MockHttpServletRequest("GET", "/v1/person/1"), response, chain);
+
+        assertThat(chain.getRequest(), is(nullValue()));
+        assertThat(response.getStatus(), is(503));
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER), is("2"));
+        assertThat(this.meterRegistry.get(PersonConcurrencyLimitFilter.REJECTED_METRIC_NAME).tag("kind", "read")
+                .counter().count(), is(1.0));
+    }
+
+    @Test
+    public void testGivenReadLimitReached_WhenFilterWrite_ThenPassRequest() throws Exception {
+        this.readLimit.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.filter.doFilter(new MockHttpServletRequest("POST", "/v1/person"), response, new MockFilterChain());
+
+        assertThat(response.getStatus(), is(200));
+        assertThat(this.writeLimit.getInFlight(), is(0));
+    }
+
+}
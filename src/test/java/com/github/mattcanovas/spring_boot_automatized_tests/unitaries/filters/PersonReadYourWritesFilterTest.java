@@ -0,0 +1,92 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.filters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.PersonRoutingDataSource;
+import com.github.mattcanovas.spring_boot_automatized_tests.filters.PersonReadYourWritesFilter;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class PersonReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final PersonReadYourWritesFilter filter =
+            new PersonReadYourWritesFilter(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    public void testGivenWriteRequest_WhenFilter_ThenForcePrimaryAndSetReadYourWritesCookie() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean primaryForced = filter(new MockHttpServletRequest("PUT", "/v1/person"), response);
+
+        Cookie cookie = response.getCookie(PersonReadYourWritesFilter.COOKIE_NAME);
+        assertThat(primaryForced, is(true));
+        assertThat(cookie, is(notNullValue()));
+        assertThat(cookie.getValue(), is(Long.toString(NOW.plusSeconds(5).toEpochMilli())));
+        assertThat(cookie.getMaxAge(), is(5));
+        assertThat(PersonRoutingDataSource.isPrimaryForced(), is(false));
+    }
+
+    @Test
+    public void testGivenReadRequestWithinReadYourWritesWindow_WhenFilter_ThenForcePrimary() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/person/1");
+        request.setCookies(new Cookie(PersonReadYourWritesFilter.COOKIE_NAME, Long.toString(NOW.plusSeconds(2).toEpochMilli())));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean primaryForced = filter(request, response);
+
+        assertThat(primaryForced, is(true));
+        assertThat(response.getCookie(PersonReadYourWritesFilter.COOKIE_NAME), is(nullValue()));
+    }
+
+    @Test
+    public void testGivenReadRequestAfterReadYourWritesWindow_WhenFilter_ThenDoNotForcePrimary() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/person/1");
+        request.setCookies(new Cookie(PersonReadYourWritesFilter.COOKIE_NAME, Long.toString(NOW.minusSeconds(1).toEpochMilli())));
+
+        assertThat(filter(request, new MockHttpServletResponse()), is(false));
+    }
+
+    @Test
+    public void testGivenReadRequestWithCookieBeyondReadYourWritesWindow_WhenFilter_ThenDoNotForcePrimary() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/person/1");
+        request.setCookies(new Cookie(PersonReadYourWritesFilter.COOKIE_NAME, Long.toString(Long.MAX_VALUE)));
+
+        assertThat(filter(request, new MockHttpServletResponse()), is(false));
+    }
+
+    @Test
+    public void testGivenReadRequestWithoutCookie_WhenFilter_ThenDoNotForcePrimary() throws Exception {
+        assertThat(filter(new MockHttpServletRequest("GET", "/v1/person"), new MockHttpServletResponse()), is(false));
+    }
+
+    private boolean filter(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean primaryForced = new AtomicBoolean();
+        this.filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                primaryForced.set(PersonRoutingDataSource.isPrimaryForced());
+            }
+        }));
+        return primaryForced.get();
+    }
+
+}
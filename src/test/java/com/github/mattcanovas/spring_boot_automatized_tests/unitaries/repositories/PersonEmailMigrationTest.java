@@ -0,0 +1,51 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.repositories;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+// Replays V001_000_004 over rows the baseline schema accepted, so the unique index can be built on them.
+public class PersonEmailMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:email-migration;DB_CLOSE_DELAY=-1";
+
+    private static final String INSERT_PERSON =
+            "INSERT INTO public.tb_person (id_person, first_name, last_name, email) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+
+    @Test
+    public void testGivenDuplicatedAndCaseVariantEmails_WhenMigrate_ThenKeepOldestAndRenameTheOthers() {
+        this.jdbcTemplate.execute("DROP ALL OBJECTS");
+        flyway("1.0.3").migrate();
+        this.jdbcTemplate.update(INSERT_PERSON, 1, "Peter", "Parker", "Peter.Parker@gmail.com");
+        this.jdbcTemplate.update(INSERT_PERSON, 2, "Peter", "Parker", " peter.parker@gmail.com");
+        this.jdbcTemplate.update(INSERT_PERSON, 3, "Peter", "Parker", "Peter.Parker@gmail.com");
+        this.jdbcTemplate.update(INSERT_PERSON, 4, "Gwen", "Stacy", " Gwen.Stacy@gmail.com ");
+
+        flyway("latest").migrate();
+
+        List<String> emails = this.jdbcTemplate.queryForList(
+                "SELECT email FROM public.tb_person ORDER BY id_person", String.class);
+        assertThat(emails, is(List.of(
+                "peter.parker@gmail.com",
+                "duplicate+2.peter.parker@gmail.com",
+                "duplicate+3.peter.parker@gmail.com",
+                "gwen.stacy@gmail.com")));
+    }
+
+    private static Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .target(target)
+                .load();
+    }
+
+}
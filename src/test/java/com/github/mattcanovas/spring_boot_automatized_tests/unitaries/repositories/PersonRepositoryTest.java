@@ -1,31 +1,51 @@
 package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.repositories;
 
-import static com.github.mattcanovas.spring_boot_automatized_tests.utils.Constants.PERSON_DEFAULT_EMAIL;
 import static com.github.mattcanovas.spring_boot_automatized_tests.utils.Constants.PERSON_DEFAULT_FIRST_NAME;
 import static com.github.mattcanovas.spring_boot_automatized_tests.utils.Constants.PERSON_DEFAULT_LAST_NAME;
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.expectStatements;
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.insert;
+import static com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonField;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonFields;
 import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
 import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
 import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
+import com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatementCountPostProcessor;
+import com.github.mattcanovas.spring_boot_automatized_tests.sqlcount.SqlStatements;
+
+import jakarta.persistence.EntityManager;
 
 @DataJpaTest
+@Import(SqlStatementCountPostProcessor.class)
 public class PersonRepositoryTest {
 
     private final PersonRepository repository;
 
+    private final EntityManager entityManager;
+
     private Person person0_;
 
     @BeforeEach
@@ -34,8 +54,9 @@ public class PersonRepositoryTest {
     }
 
     @Autowired
-    public PersonRepositoryTest(PersonRepository repository) {
+    public PersonRepositoryTest(PersonRepository repository, EntityManager entityManager) {
         this.repository = repository;
+        this.entityManager = entityManager;
     }
 
     @Test
@@ -51,7 +72,7 @@ public class PersonRepositoryTest {
         this.repository.saveAll(new ArrayList<Person>() {
             {
                 add(person0_);
-                add(new Person("Juliana", PERSON_DEFAULT_LAST_NAME, PERSON_DEFAULT_EMAIL));
+                add(new Person("Juliana", PERSON_DEFAULT_LAST_NAME, "juliana@gmail.com"));
             }
         });
 
@@ -61,6 +82,101 @@ public class PersonRepositoryTest {
         assertEquals(2, persons.size());
     }
 
+    @Test
+    public void testGivenPersonList_WhenFindByIdGreaterThan_ThenReturnNextPersonsOrderedById() {
+        Person first = this.repository.save(person0_);
+        Person second = this.repository.save(new Person("Juliana", PERSON_DEFAULT_LAST_NAME, "juliana@gmail.com"));
+        Person third = this.repository.save(new Person("Rafael", PERSON_DEFAULT_LAST_NAME, "rafael@gmail.com"));
+
+        List<Person> persons = this.repository.findByIdGreaterThanOrderByIdAsc(first.getId(), Limit.of(2));
+
+        assertEquals(2, persons.size());
+        assertEquals(second.getId(), persons.get(0).getId());
+        assertEquals(third.getId(), persons.get(1).getId());
+    }
+
+    @Test
+    public void testGivenPersonList_WhenSearch_ThenReturnCaseInsensitiveSubstringMatchesOrderedById() {
+        Person kamala = this.repository.save(new Person("Kamala", "Khan", "ms_marvel@gmail.com"));
+        Person kamran = this.repository.save(new Person("Kamran", "Khan", "msxmarvel@gmail.com"));
+        this.repository.save(new Person("Bruno", "Carrelli", "bruno.carrelli@gmail.com"));
+
+        List<Person> byName = this.repository.search("%mala kh%", 0L, 10);
+        List<Person> byLastName = this.repository.search("%khan%", 0L, 10);
+        List<Person> afterFirst = this.repository.search("%khan%", kamala.getId(), 10);
+        List<Person> byEscapedEmail = this.repository.search("%ms\\_marvel%", 0L, 10);
+
+        assertEquals(List.of(kamala.getId()), byName.stream().map(Person::getId).toList());
+        assertEquals(List.of(kamala.getId(), kamran.getId()), byLastName.stream().map(Person::getId).toList());
+        assertEquals(List.of(kamran.getId()), afterFirst.stream().map(Person::getId).toList());
+        assertEquals(List.of(kamala.getId()), byEscapedEmail.stream().map(Person::getId).toList());
+    }
+
+    @Test
+    public void testGivenPersonList_WhenFindFieldsByIdGreaterThan_ThenReturnSelectedFieldsWithoutManagedEntities() {
+        Person first = this.repository.save(person0_);
+        Person second = this.repository.save(new Person("Juliana", PERSON_DEFAULT_LAST_NAME, "juliana@gmail.com"));
+        this.repository.flush();
+        this.entityManager.clear();
+
+        List<PersonFields> persons = this.repository.findFieldsByIdGreaterThan(EnumSet.of(PersonField.EMAIL), 0L, 10);
+
+        assertEquals(List.of(first.getId(), second.getId()), persons.stream().map(PersonFields::id).toList());
+        assertEquals(Map.of("email", first.getEmail()), persons.get(0).values());
+        assertEquals(0, this.entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    public void testGivenPersonList_WhenStreamAll_ThenReturnEveryPersonOrderedById() {
+        Person first = this.repository.save(person0_);
+        Person second = this.repository.save(new Person("Juliana", PERSON_DEFAULT_LAST_NAME, "juliana@gmail.com"));
+
+        List<Person> persons;
+        try (Stream<Person> stream = this.repository.streamAll()) {
+            persons = stream.toList();
+        }
+
+        assertEquals(2, persons.size());
+        assertEquals(first.getId(), persons.get(0).getId());
+        assertEquals(second.getId(), persons.get(1).getId());
+    }
+
+    @Test
+    public void testGivenPersonList_WhenFindEmailsIn_ThenReturnOnlyTakenEmails() {
+        this.repository.save(person0_);
+        this.repository.save(new Person("Juliana", PERSON_DEFAULT_LAST_NAME, "juliana@gmail.com"));
+        this.repository.flush();
+
+        SqlStatements.reset();
+        Set<String> emails = this.repository.findEmailsIn(List.of(person0_.getEmail(), "free@gmail.com"));
+
+        expectStatements(select(1));
+        assertEquals(Set.of(person0_.getEmail()), emails);
+    }
+
+    @Test
+    public void testGivenPersonList_WhenSaveAll_ThenAssignIdsFromSequence() {
+        SqlStatements.reset();
+        List<Person> persons = this.repository.saveAll(List.of(
+                person0_,
+                new Person("Juliana", PERSON_DEFAULT_LAST_NAME, "juliana@gmail.com")));
+        this.repository.flush();
+
+        expectStatements(insert(1));
+
+        assertNotNull(persons.get(0).getId());
+        assertNotNull(persons.get(1).getId());
+        assertNotEquals(persons.get(0).getId(), persons.get(1).getId());
+    }
+
+    @Test
+    public void testGivenPersonObject_AfterSaved_WhenSaveAnotherPersonWithSameEmail_ThenThrowDataIntegrityViolationException() {
+        this.repository.saveAndFlush(person0_);
+        Person samePersonEmail = new Person("Juliana", PERSON_DEFAULT_LAST_NAME, person0_.getEmail());
+
+        assertThrows(DataIntegrityViolationException.class, () -> this.repository.saveAndFlush(samePersonEmail));
+    }
+
     @Test
     public void testGivenPersonObject_AfterSaved_WhenGetReferenceById_ShouldReturnSavedPersonBefore() {
         this.repository.save(this.person0_);
@@ -0,0 +1,91 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonExportService;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+public class PersonExportServiceTest {
+
+    @Mock
+    private PersonRepository repository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @InjectMocks
+    private PersonExportService service;
+
+    private Person person0_;
+
+    private Person person1_;
+
+    @BeforeEach
+    public void setup() {
+        person0_ = PersonFactory.createDefaultPerson();
+        person0_.setId(1L);
+        person1_ = PersonFactory.createCustomPerson("Juliana", "Canovas", "juliana@gmail.com");
+        person1_.setId(2L);
+    }
+
+    @Test
+    public void testGivenPersonsStream_WhenExport_ThenWriteOneJsonLinePerPerson() throws Exception {
+        given(this.repository.streamAll()).willReturn(Stream.of(person0_, person1_));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long rows = this.service.export(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows, is(2L));
+        assertThat(lines.length, is(2));
+        assertThat(mapper.readValue(lines[0], Person.class).getEmail(), is(person0_.getEmail()));
+        assertThat(mapper.readValue(lines[1], Person.class).getEmail(), is(person1_.getEmail()));
+    }
+
+    @Test
+    public void testGivenPersonsStream_WhenExport_ThenDetachEveryWrittenPerson() throws Exception {
+        given(this.repository.streamAll()).willReturn(Stream.of(person0_, person1_));
+
+        this.service.export(new ByteArrayOutputStream());
+
+        verify(this.entityManager, times(1)).detach(person0_);
+        verify(this.entityManager, times(1)).detach(person1_);
+    }
+
+    @Test
+    public void testGivenEmptyStream_WhenExport_ThenWriteNothing() throws Exception {
+        given(this.repository.streamAll()).willReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long rows = this.service.export(outputStream);
+
+        assertThat(rows, is(0L));
+        assertThat(outputStream.size(), is(0));
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonBatchResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonImportResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonConflictException;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonImportService;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@ExtendWith(MockitoExtension.class)
+public class PersonImportServiceTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PersonService service;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    private PersonImportService importService;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        given(this.dataSource.getConnection()).willReturn(this.connection);
+        given(this.connection.isWrapperFor(PGConnection.class)).willReturn(false);
+        this.importService = new PersonImportService(this.dataSource, this.service, this.entityManagerFactory);
+    }
+
+    @Test
+    public void testGivenCsvWithInvalidRows_WhenImportCsvWithoutPostgres_ThenCreateValidPersonsAndCountRejectedRows() throws Exception {
+        given(this.service.createAll(anyList())).willAnswer((invocation) -> {
+            List<Person> persons = invocation.getArgument(0);
+            return List.of(
+                    PersonBatchResult.created(0, persons.get(0)),
+                    PersonBatchResult.created(1, persons.get(1)),
+                    PersonBatchResult.duplicateEmail(2, persons.get(2)));
+        });
+
+        PersonImportResult result = this.importService.importCsv(csv("""
+                email,first_name,last_name
+                 Miles.Morales@Gmail.com ,Miles,Morales
+                "peter""s@gmail.com","Peter, Benjamin",Parker
+                not-an-email,Gwen,Stacy
+                gwen@gmail.com,,Stacy
+
+                "miguel@gmail.com,Miguel,O'Hara
+                miles.morales@gmail.com,Miles,Morales
+                """));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Person>> persons = ArgumentCaptor.forClass(List.class);
+        verify(this.service, times(1)).createAll(persons.capture());
+        assertThat(persons.getValue().size(), is(3));
+        assertThat(persons.getValue().get(0).getEmail(), is("miles.morales@gmail.com"));
+        assertThat(persons.getValue().get(1).getEmail(), is("peter\"s@gmail.com"));
+        assertThat(persons.getValue().get(1).getFirstName(), is("Peter, Benjamin"));
+        assertThat(result.rows(), is(6L));
+        assertThat(result.imported(), is(2L));
+        assertThat(result.rejected(), is(4L));
+    }
+
+    @Test
+    public void testGivenMoreRowsThanBatchSize_WhenImportCsvWithoutPostgres_ThenCreatePersonsInBatches() throws Exception {
+        given(this.service.createAll(anyList())).willAnswer((invocation) -> createdResults(invocation.getArgument(0)));
+        StringBuilder csv = new StringBuilder("first_name,last_name,email\n");
+        for (int index = 0; index < 2500; index++) {
+            csv.append("First,Last,import-").append(index).append("@gmail.com\n");
+        }
+
+        PersonImportResult result = this.importService.importCsv(csv(csv.toString()));
+
+        verify(this.service, times(3)).createAll(anyList());
+        assertThat(result.rows(), is(2500L));
+        assertThat(result.imported(), is(2500L));
+        assertThat(result.rejected(), is(0L));
+    }
+
+    @Test
+    public void testGivenConcurrentlyTakenEmail_WhenImportCsvWithoutPostgres_ThenRetryTheBatchOnce() throws Exception {
+        given(this.service.createAll(anyList()))
+                .willThrow(PersonConflictException.class)
+                .willAnswer((invocation) -> createdResults(invocation.getArgument(0)));
+
+        PersonImportResult result = this.importService.importCsv(csv("""
+                first_name,last_name,email
+                Miles,Morales,miles.morales@gmail.com
+                """));
+
+        verify(this.service, times(2)).createAll(anyList());
+        assertThat(result.imported(), is(1L));
+        assertThat(result.rejected(), is(0L));
+    }
+
+    @Test
+    public void testGivenBatchConflictingTwice_WhenImportCsvWithoutPostgres_ThenRejectTheBatchAndImportTheNextOnes() throws Exception {
+        given(this.service.createAll(anyList()))
+                .willThrow(PersonConflictException.class)
+                .willThrow(PersonConflictException.class)
+                .willAnswer((invocation) -> createdResults(invocation.getArgument(0)));
+        StringBuilder csv = new StringBuilder("first_name,last_name,email\n");
+        for (int index = 0; index < 1500; index++) {
+            csv.append("First,Last,import-").append(index).append("@gmail.com\n");
+        }
+
+        PersonImportResult result = this.importService.importCsv(csv(csv.toString()));
+
+        verify(this.service, times(3)).createAll(anyList());
+        assertThat(result.rows(), is(1500L));
+        assertThat(result.imported(), is(500L));
+        assertThat(result.rejected(), is(1000L));
+    }
+
+    @Test
+    public void testGivenCsvWithoutEmailColumn_WhenImportCsv_ThenThrownIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            this.importService.importCsv(csv("""
+                    first_name,last_name
+                    Miles,Morales
+                    """));
+        });
+
+        verify(this.service, never()).createAll(anyList());
+    }
+
+    private static List<PersonBatchResult> createdResults(List<Person> persons) {
+        List<PersonBatchResult> results = new ArrayList<>(persons.size());
+        for (int index = 0; index < persons.size(); index++) {
+            results.add(PersonBatchResult.created(index, persons.get(index)));
+        }
+        return results;
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
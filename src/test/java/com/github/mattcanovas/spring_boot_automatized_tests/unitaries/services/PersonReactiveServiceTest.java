@@ -0,0 +1,73 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.PersonRow;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonConflictException;
+import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonReactiveRepository;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonReactiveService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class PersonReactiveServiceTest {
+
+    @Mock
+    private PersonReactiveRepository repository;
+
+    @InjectMocks
+    private PersonReactiveService service;
+
+    @Test
+    public void testGivenPersonRowWithMixedCaseEmail_WhenCreatePerson_ThenInsertNormalizedEmail() {
+        PersonRow normalized = new PersonRow(null, "Peter", "Parker", "peter.parker@gmail.com", null);
+        given(this.repository.insert(normalized)).willReturn(Mono.just(normalized.withId(1L)));
+
+        StepVerifier.create(this.service.create(new PersonRow(7L, "Peter", "Parker", " Peter.Parker@Gmail.com ", 3L)))
+                .expectNext(normalized.withId(1L))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGivenTakenEmail_WhenCreatePerson_ThenEmitPersonConflictException() {
+        given(this.repository.insert(any(PersonRow.class))).willReturn(Mono.error(new DuplicateKeyException(
+                "duplicate key value violates unique constraint \"uidx_person_email\"",
+                new RuntimeException("duplicate key value violates unique constraint \"uidx_person_email\""))));
+
+        StepVerifier.create(this.service.create(new PersonRow(null, "Peter", "Parker", "peter.parker@gmail.com", null)))
+                .expectError(PersonConflictException.class)
+                .verify();
+    }
+
+    @Test
+    public void testGivenPersonIdThatDoesNotExist_WhenFindById_ThenEmitIllegalStateException() {
+        given(this.repository.findById(1L)).willReturn(Mono.empty());
+
+        StepVerifier.create(this.service.findById(1L))
+                .expectErrorMessage("Person with given id: 1 does not exist!")
+                .verify();
+    }
+
+    @Test
+    public void testGivenPersonRows_WhenFindAll_ThenStreamEveryRowOnDemand() {
+        given(this.repository.findAll()).willReturn(Flux.range(1, 3)
+                .map(id -> new PersonRow((long) id, "First" + id, "Last" + id, "person" + id + "@gmail.com", 0L)));
+
+        StepVerifier.create(this.service.findAll(), 1)
+                .expectNextCount(1)
+                .thenRequest(2)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.CacheConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonLookupResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest(classes = { PersonService.class, CacheConfiguration.class, SimpleMeterRegistry.class })
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+public class PersonServiceCacheTest {
+
+    @MockitoBean
+    private PersonRepository repository;
+
+    private final PersonService service;
+
+    private final Cache cache;
+
+    private Person person0_;
+
+    private static final Integer ONE_INVOCATION = 1;
+
+    private static final Integer TWO_INVOCATIONS = 2;
+
+    @Autowired
+    public PersonServiceCacheTest(PersonService service, CacheManager cacheManager) {
+        this.service = service;
+        this.cache = cacheManager.getCache(CacheConfiguration.PERSONS_CACHE);
+    }
+
+    @BeforeEach
+    public void setup() {
+        this.cache.clear();
+        person0_ = PersonFactory.createDefaultPerson();
+        person0_.setId(1L);
+    }
+
+    @Test
+    public void testGivenPersonId_WhenFindPersonByIdTwice_ThenLoadPersonFromRepositoryOnce() {
+        given(this.repository.findById(person0_.getId())).willReturn(Optional.of(person0_));
+
+        this.service.findById(person0_.getId());
+        Person person = this.service.findById(person0_.getId());
+
+        verify(this.repository, times(ONE_INVOCATION)).findById(person0_.getId());
+        assertThat(person.getEmail(), is(person0_.getEmail()));
+    }
+
+    @Test
+    public void testGivenPersonIdThatDoesNotExist_WhenFindPersonByIdTwice_ThenDoNotCacheTheMiss() {
+        given(this.repository.findById(person0_.getId())).willReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> this.service.findById(person0_.getId()));
+        assertThrows(IllegalStateException.class, () -> this.service.findById(person0_.getId()));
+
+        verify(this.repository, times(TWO_INVOCATIONS)).findById(person0_.getId());
+        assertThat(this.cache.get(person0_.getId()), is(nullValue()));
+    }
+
+    @Test
+    public void testGivenCachedPerson_WhenFindAllById_ThenDoNotQueryTheRepository() {
+        given(this.repository.findById(person0_.getId())).willReturn(Optional.of(person0_));
+        this.service.findById(person0_.getId());
+
+        PersonLookupResult result = this.service.findAllById(List.of(person0_.getId()));
+
+        verify(this.repository, never()).findAllById(anyIterable());
+        assertThat(result.persons(), is(List.of(person0_)));
+        assertThat(result.missing().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testGivenUncachedPerson_WhenFindAllById_ThenCacheLoadedPerson() {
+        given(this.repository.findAllById(List.of(person0_.getId()))).willReturn(List.of(person0_));
+
+        this.service.findAllById(List.of(person0_.getId()));
+        Person person = this.service.findById(person0_.getId());
+
+        verify(this.repository, never()).findById(person0_.getId());
+        assertThat(person.getEmail(), is(person0_.getEmail()));
+    }
+
+    @Test
+    public void testGivenCachedPerson_WhenUpdatePerson_ThenRefreshCachedPerson() {
+        given(this.repository.findById(person0_.getId())).willReturn(Optional.of(person0_));
+        given(this.repository.saveAndFlush(person0_)).willReturn(person0_);
+        this.service.findById(person0_.getId());
+
+        Person changes = PersonFactory.createCustomPerson("Miguel", "O'hara", person0_.getEmail());
+        changes.setId(person0_.getId());
+        this.service.update(changes);
+        Person person = this.service.findById(person0_.getId());
+
+        verify(this.repository, times(TWO_INVOCATIONS)).findById(person0_.getId());
+        assertThat(person.getFirstName(), is("Miguel"));
+        assertThat(this.cache.get(person0_.getId(), Person.class).getFirstName(), is("Miguel"));
+    }
+
+    @Test
+    public void testGivenCachedPerson_WhenDeletePerson_ThenEvictCachedPerson() {
+        given(this.repository.findById(person0_.getId())).willReturn(Optional.of(person0_));
+        this.service.findById(person0_.getId());
+        assertThat(this.cache.get(person0_.getId()), is(notNullValue()));
+        given(this.repository.deletePersonById(person0_.getId())).willReturn(1);
+
+        this.service.delete(person0_.getId());
+
+        assertThat(this.cache.get(person0_.getId()), is(nullValue()));
+    }
+
+}
@@ -2,38 +2,83 @@ package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.services;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.CacheConfiguration;
+import com.github.mattcanovas.spring_boot_automatized_tests.configurations.PersonRoutingDataSource;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonBatchResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonBulkDeleteResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonField;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonFields;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonFieldsPage;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonLookupResult;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPage;
+import com.github.mattcanovas.spring_boot_automatized_tests.dtos.PersonPatch;
 import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonConflictException;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonVersionMismatchException;
 import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
 import com.github.mattcanovas.spring_boot_automatized_tests.repositories.PersonRepository;
 import com.github.mattcanovas.spring_boot_automatized_tests.services.PersonService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 public class PersonServiceTest {
 
     @Mock
     private PersonRepository repository;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private Environment environment = new MockEnvironment();
+
     @InjectMocks
     private PersonService service;
 
@@ -48,27 +93,92 @@ public class PersonServiceTest {
 
     @Test
     public void testGivenPersonObject_WhenCreatePerson_ThenReturnCreatedPersonObject() {
-        given(this.repository.findByEmail(anyString())).willReturn(Optional.empty());
-        given(this.repository.save(person0_)).willReturn(person0_);
+        given(this.repository.saveAndFlush(person0_)).willReturn(person0_);
 
         Person createdPerson = this.service.create(person0_);
 
+        verify(repository, never()).findByEmail(anyString());
         assertNotNull(createdPerson);
         assertThat(createdPerson.getFirstName(), is(person0_.getFirstName()));
     }
 
     @Test
-    public void testGivenPersonObjectThatWasAlreadySaved_WhenCreatePerson_ThenThrownIllegalStateException() {
-        given(this.repository.findByEmail(anyString())).willReturn(Optional.of(person0_));
+    public void testGivenPersonObjectWithMixedCaseEmail_WhenCreatePerson_ThenSaveNormalizedEmail() {
+        person0_.setEmail("  Miles.Morales@Gmail.COM ");
+        given(this.repository.saveAndFlush(person0_)).willReturn(person0_);
 
-        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+        Person createdPerson = this.service.create(person0_);
+
+        assertThat(createdPerson.getEmail(), is("miles.morales@gmail.com"));
+    }
+
+    @Test
+    public void testGivenPersonObjectThatWasAlreadySaved_WhenCreatePerson_ThenThrownPersonConflictException() {
+        given(this.repository.saveAndFlush(person0_)).willThrow(emailUniqueViolation());
+
+        PersonConflictException exception = assertThrows(PersonConflictException.class, () -> {
             this.service.create(person0_);
         });
-        verify(repository, never()).save(any(Person.class));
-        assertThat(exception.getClass(), is(IllegalStateException.class));
+        verify(repository, never()).findByEmail(anyString());
+        assertThat(exception.getClass(), is(PersonConflictException.class));
         assertThat(exception.getMessage(), is("Person already exist with given e-Mail: " + person0_.getEmail()));
     }
 
+    @Test
+    public void testGivenPersonObjectViolatingAnotherConstraint_WhenCreatePerson_ThenThrownDataIntegrityViolationException() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not-null",
+                new RuntimeException("null value in column \"first_name\" violates not-null constraint"));
+        given(this.repository.saveAndFlush(person0_)).willThrow(violation);
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () -> {
+            this.service.create(person0_);
+        });
+        assertThat(exception, is(violation));
+    }
+
+    @Test
+    public void testGivenPersonsList_WhenCreateAll_ThenSaveEveryPersonWithOneEmailQuery() {
+        Person person1_ = PersonFactory.createCustomPerson("Juliana", "Canovas", "juliana@gmail.com");
+        List<Person> persons = List.of(person0_, person1_);
+        given(this.repository.findEmailsIn(anyCollection())).willReturn(Set.of());
+
+        List<PersonBatchResult> results = this.service.createAll(persons);
+
+        verify(this.repository, times(ONE_INVOCATION)).findEmailsIn(anyCollection());
+        verify(this.repository, times(ONE_INVOCATION)).saveAll(persons);
+        verify(this.repository, never()).findByEmail(anyString());
+        assertThat(results.size(), is(2));
+        assertThat(results.get(0).status(), is(PersonBatchResult.Status.CREATED));
+        assertThat(results.get(1).status(), is(PersonBatchResult.Status.CREATED));
+    }
+
+    @Test
+    public void testGivenPersonsListWithTakenAndRepeatedEmails_WhenCreateAll_ThenReportDuplicatesAndSaveTheOthers() {
+        Person taken = PersonFactory.createCustomPerson("Juliana", "Canovas", "juliana@gmail.com");
+        Person repeated = PersonFactory.createCustomPerson("Rafael", "Canovas", person0_.getEmail());
+        given(this.repository.findEmailsIn(anyCollection())).willReturn(Set.of(taken.getEmail()));
+
+        List<PersonBatchResult> results = this.service.createAll(List.of(person0_, taken, repeated));
+
+        verify(this.repository, times(ONE_INVOCATION)).saveAll(List.of(person0_));
+        assertThat(results.get(0).status(), is(PersonBatchResult.Status.CREATED));
+        assertThat(results.get(1).status(), is(PersonBatchResult.Status.DUPLICATE_EMAIL));
+        assertThat(results.get(1).index(), is(1));
+        assertThat(results.get(1).error(), is("Person already exist with given e-Mail: " + taken.getEmail()));
+        assertThat(results.get(2).status(), is(PersonBatchResult.Status.DUPLICATE_EMAIL));
+    }
+
+    @Test
+    public void testGivenConcurrentlyTakenEmail_WhenCreateAll_ThenThrownPersonConflictException() {
+        given(this.repository.findEmailsIn(anyCollection())).willReturn(Set.of());
+        given(this.repository.saveAll(List.of(person0_))).willThrow(emailUniqueViolation());
+
+        PersonConflictException exception = assertThrows(PersonConflictException.class, () -> {
+            this.service.createAll(List.of(person0_));
+        });
+        assertThat(exception.getMessage(), is("Person already exist with one of the given e-Mails"));
+    }
+
     @Test
     public void testGivenPersonsList_WhenFindAllPersons_ThenReturnPersonsList() {
         given(this.repository.findAll()).willReturn(List.of(person0_, PersonFactory.createCustomPerson("Juliana", "Canovas", "teste@gmail.com")));
@@ -89,6 +199,86 @@ public class PersonServiceTest {
         assertThat(persons.size(), is(0));
     }
 
+    @Test
+    public void testGivenMoreRowsThanLimit_WhenFindPage_ThenReturnPageWithNextCursor() {
+        Person first = PersonFactory.createCustomPerson("Juliana", "Canovas", "juliana@gmail.com");
+        first.setId(1L);
+        Person second = PersonFactory.createCustomPerson("Rafael", "Canovas", "rafael@gmail.com");
+        second.setId(2L);
+        given(this.repository.findByIdGreaterThanOrderByIdAsc(eq(0L), eq(Limit.of(2)))).willReturn(List.of(first, second));
+
+        PersonPage page = this.service.findPage(null, 1);
+
+        assertThat(page.persons().size(), is(1));
+        assertThat(page.hasNext(), is(true));
+        assertThat(page.nextCursor(), is(first.getId()));
+    }
+
+    @Test
+    public void testGivenLastRows_WhenFindPage_ThenReturnPageWithoutNextCursor() {
+        Person last = PersonFactory.createCustomPerson("Juliana", "Canovas", "juliana@gmail.com");
+        last.setId(2L);
+        given(this.repository.findByIdGreaterThanOrderByIdAsc(eq(1L), eq(Limit.of(2)))).willReturn(List.of(last));
+
+        PersonPage page = this.service.findPage(1L, 1);
+
+        assertThat(page.persons().size(), is(1));
+        assertThat(page.hasNext(), is(false));
+    }
+
+    @Test
+    public void testGivenMoreRowsThanLimit_WhenFindFieldsPage_ThenReturnPageWithNextCursorFromUnselectedId() {
+        Set<PersonField> fields = EnumSet.of(PersonField.EMAIL);
+        List<PersonFields> rows = List.of(
+                new PersonFields(1L, Map.of("email", "juliana@gmail.com")),
+                new PersonFields(2L, Map.of("email", "rafael@gmail.com")));
+        given(this.repository.findFieldsByIdGreaterThan(fields, 0L, 2)).willReturn(rows);
+
+        PersonFieldsPage page = this.service.findFieldsPage(fields, null, 1);
+
+        assertThat(page.persons().size(), is(1));
+        assertThat(page.hasNext(), is(true));
+        assertThat(page.nextCursor(), is(1L));
+    }
+
+    @Test
+    public void testGivenPersonIdThatDoesNotExist_WhenFindFieldsById_ThenThrownIllegalStateException() {
+        Set<PersonField> fields = EnumSet.of(PersonField.ID, PersonField.EMAIL);
+        given(this.repository.findFieldsById(fields, 1L)).willReturn(Optional.empty());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+            this.service.findFieldsById(fields, 1L);
+        });
+
+        assertThat(exception.getMessage(), is("Person with given id: 1 does not exist!"));
+    }
+
+    @Test
+    public void testGivenQueryWithWildcards_WhenSearch_ThenLookUpEscapedLowerCasePattern() {
+        given(this.repository.search("%50\\%\\_off%", 0L, 51)).willReturn(List.of());
+
+        PersonPage page = this.service.search(" 50%_OFF ", null, 50);
+
+        verify(repository, times(ONE_INVOCATION)).search("%50\\%\\_off%", 0L, 51);
+        assertThat(page.persons().size(), is(0));
+        assertThat(page.hasNext(), is(false));
+    }
+
+    @Test
+    public void testGivenMoreMatchesThanLimit_WhenSearch_ThenReturnPageWithNextCursor() {
+        Person first = PersonFactory.createCustomPerson("Juliana", "Canovas", "juliana@gmail.com");
+        first.setId(3L);
+        Person second = PersonFactory.createCustomPerson("Rafael", "Canovas", "rafael@gmail.com");
+        second.setId(4L);
+        given(this.repository.search("%canovas%", 2L, 2)).willReturn(List.of(first, second));
+
+        PersonPage page = this.service.search("Canovas", 2L, 1);
+
+        assertThat(page.persons().size(), is(1));
+        assertThat(page.hasNext(), is(true));
+        assertThat(page.nextCursor(), is(first.getId()));
+    }
+
     @Test
     public void testGivenPersonId_WhenFindPersonById_ThenReturnPersonObject() {
         given(this.repository.findById(person0_.getId())).willReturn(Optional.of(person0_));
@@ -99,6 +289,57 @@ public class PersonServiceTest {
         assertThat(person.getFirstName(), is(person0_.getFirstName()));
     }
 
+    @Test
+    public void testGivenReadInFlight_WhenFindPersonByIdWithPrimaryForced_ThenDoNotJoinIt() throws Exception {
+        person0_.setId(1L);
+        Person primaryPerson = PersonFactory.createCustomPerson("Ben", "Reilly", person0_.getEmail());
+        CountDownLatch inFlightReadStarted = new CountDownLatch(1);
+        CountDownLatch releaseInFlightRead = new CountDownLatch(1);
+        given(this.repository.findById(person0_.getId()))
+                .willAnswer((invocation) -> {
+                    inFlightReadStarted.countDown();
+                    releaseInFlightRead.await(5, TimeUnit.SECONDS);
+                    return Optional.of(person0_);
+                })
+                .willReturn(Optional.of(primaryPerson));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Person> inFlightRead = executor.submit(() -> this.service.findById(person0_.getId()));
+            assertThat(inFlightReadStarted.await(5, TimeUnit.SECONDS), is(true));
+
+            PersonRoutingDataSource.forcePrimary();
+            Person person = this.service.findById(person0_.getId());
+            releaseInFlightRead.countDown();
+
+            assertThat(person, is(sameInstance(primaryPerson)));
+            assertThat(inFlightRead.get(5, TimeUnit.SECONDS), is(sameInstance(person0_)));
+            verify(this.repository, times(2)).findById(person0_.getId());
+        } finally {
+            PersonRoutingDataSource.clearForcePrimary();
+            releaseInFlightRead.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGivenIdsPartlyCached_WhenFindAllById_ThenLoadOnlyMissesAndKeepRequestOrder() {
+        Cache cache = new ConcurrentMapCache(CacheConfiguration.PERSONS_CACHE);
+        Person first = PersonFactory.createCustomPerson("Miles", "Morales", "miles@gmail.com");
+        first.setId(1L);
+        Person third = PersonFactory.createCustomPerson("Gwen", "Stacy", "gwen@gmail.com");
+        third.setId(3L);
+        cache.put(1L, first);
+        given(this.cacheManager.getCache(CacheConfiguration.PERSONS_CACHE)).willReturn(cache);
+        given(this.repository.findAllById(List.of(3L, 2L))).willReturn(List.of(third));
+
+        PersonLookupResult result = this.service.findAllById(List.of(3L, 1L, 2L, 3L));
+
+        verify(this.repository, times(ONE_INVOCATION)).findAllById(List.of(3L, 2L));
+        assertThat(result.persons(), is(List.of(third, first)));
+        assertThat(result.missing(), is(List.of(2L)));
+        assertThat(cache.get(3L, Person.class), is(third));
+    }
+
     @Test
     public void testGivenPersonIdThatDoesNotExist_WhenFindPersonById_ThenThrownIllegalStateException() {
         given(this.repository.findById(person0_.getId())).willReturn(Optional.empty());
@@ -113,7 +354,7 @@ public class PersonServiceTest {
     @Test
     public void testGivenPersonObject_WhenUpdatePerson_ThenReturnUpdatedPersonObject() {
         given(this.repository.findById(person0_.getId())).willReturn(Optional.of(person0_));
-        given(this.repository.save(person0_)).willReturn(person0_);
+        given(this.repository.saveAndFlush(person0_)).willReturn(person0_);
 
         Person updatedPerson = this.service.update(person0_);
 
@@ -121,6 +362,17 @@ public class PersonServiceTest {
         assertThat(updatedPerson.getFirstName(), is(person0_.getFirstName()));
     }
 
+    @Test
+    public void testGivenPersonObjectWithTakenEmail_WhenUpdatePerson_ThenThrownPersonConflictException() {
+        given(this.repository.findById(person0_.getId())).willReturn(Optional.of(person0_));
+        given(this.repository.saveAndFlush(person0_)).willThrow(emailUniqueViolation());
+
+        PersonConflictException exception = assertThrows(PersonConflictException.class, () -> {
+            this.service.update(person0_);
+        });
+        assertThat(exception.getMessage(), is("Person already exist with given e-Mail: " + person0_.getEmail()));
+    }
+
     @Test
     public void testGivenPersonObjectThatDoesNotExist_WhenUpdatePerson_ThenThrownIllegalStateException() {
         given(this.repository.findById(person0_.getId())).willReturn(Optional.empty());
@@ -133,18 +385,82 @@ public class PersonServiceTest {
     }
 
     @Test
-    public void testGivenPersonId_WhenDeletePersonById_ThenReturnVoid() {
+    public void testGivenCurrentVersion_WhenUpdatePerson_ThenReturnUpdatedPersonObject() {
+        person0_.setVersion(2L);
+        given(this.repository.findById(person0_.getId())).willReturn(Optional.of(person0_));
+        given(this.repository.saveAndFlush(person0_)).willReturn(person0_);
+
+        Person updatedPerson = this.service.update(person0_, 2L);
+
+        assertNotNull(updatedPerson);
+        verify(this.repository, times(ONE_INVOCATION)).saveAndFlush(person0_);
+    }
+
+    @Test
+    public void testGivenStaleVersion_WhenUpdatePerson_ThenThrownPersonVersionMismatchException() {
+        person0_.setVersion(2L);
+        given(this.repository.findById(person0_.getId())).willReturn(Optional.of(person0_));
+
+        assertThrows(PersonVersionMismatchException.class, () -> {
+            this.service.update(person0_, 1L);
+        });
+        verify(this.repository, never()).saveAndFlush(any(Person.class));
+    }
+
+    @Test
+    public void testGivenConcurrentUpdate_WhenUpdatePerson_ThenThrownPersonVersionMismatchException() {
+        person0_.setVersion(2L);
         given(this.repository.findById(person0_.getId())).willReturn(Optional.of(person0_));
-        willDoNothing().given(this.repository).delete(person0_);
+        given(this.repository.saveAndFlush(person0_)).willThrow(new OptimisticLockingFailureException("stale"));
+
+        assertThrows(PersonVersionMismatchException.class, () -> {
+            this.service.update(person0_, 2L);
+        });
+    }
+
+    @Test
+    public void testGivenPersonPatch_WhenPatchPerson_ThenRunOneUpdateWithoutLoadingThePerson() {
+        given(this.repository.patchById(1L, null, null, "peter.parker@gmail.com")).willReturn(1);
+
+        this.service.patch(1L, new PersonPatch(null, null, " Peter.Parker@Gmail.com "));
+
+        verify(this.repository, times(ONE_INVOCATION)).patchById(1L, null, null, "peter.parker@gmail.com");
+        verify(this.repository, never()).findById(any(Long.class));
+        verify(this.repository, never()).save(any(Person.class));
+    }
+
+    @Test
+    public void testGivenPersonIdThatDoesNotExist_WhenPatchPerson_ThenThrownIllegalStateException() {
+        given(this.repository.patchById(1L, "Miguel", null, null)).willReturn(0);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+            this.service.patch(1L, new PersonPatch("Miguel", null, null));
+        });
+        assertThat(exception.getMessage(), is("Person with given id: 1 does not exist!"));
+    }
+
+    @Test
+    public void testGivenPersonPatchWithTakenEmail_WhenPatchPerson_ThenThrownPersonConflictException() {
+        given(this.repository.patchById(1L, null, null, person0_.getEmail())).willThrow(emailUniqueViolation());
+
+        assertThrows(PersonConflictException.class, () -> {
+            this.service.patch(1L, new PersonPatch(null, null, person0_.getEmail()));
+        });
+    }
+
+    @Test
+    public void testGivenPersonId_WhenDeletePersonById_ThenRunOneDeleteWithoutLoadingThePerson() {
+        given(this.repository.deletePersonById(person0_.getId())).willReturn(1);
 
         this.service.delete(person0_.getId());
 
-        verify(this.repository, times(ONE_INVOCATION)).delete(person0_);
+        verify(this.repository, times(ONE_INVOCATION)).deletePersonById(person0_.getId());
+        verify(this.repository, never()).findById(any());
     }
 
     @Test
     public void testGivenPersonIdThatDoesNotExist_WhenDeletePersonById_ThenThrownIllegalStateException() {
-        given(this.repository.findById(person0_.getId())).willReturn(Optional.empty());
+        given(this.repository.deletePersonById(person0_.getId())).willReturn(0);
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
             this.service.delete(person0_.getId());
@@ -153,4 +469,32 @@ public class PersonServiceTest {
         assertThat(exception.getMessage(), is("Person with given id: " + person0_.getId() + " does not exist!"));
     }
 
+    @Test
+    public void testGivenIdsList_WhenDeleteAll_ThenDeleteDistinctIdsInChunks() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 2500; id++) {
+            ids.add(id);
+        }
+        ids.add(1L);
+        Cache cache = new ConcurrentMapCache(CacheConfiguration.PERSONS_CACHE);
+        Person notRequested = PersonFactory.createCustomPerson("Miles", "Morales", "miles@gmail.com");
+        cache.put(1L, person0_);
+        cache.put(9999L, notRequested);
+        given(this.cacheManager.getCache(CacheConfiguration.PERSONS_CACHE)).willReturn(cache);
+        given(this.repository.deletePersonsByIdIn(anyCollection())).willReturn(1000, 1000, 499);
+
+        PersonBulkDeleteResult result = this.service.deleteAll(ids);
+
+        verify(this.repository, times(3)).deletePersonsByIdIn(anyCollection());
+        assertThat(result.requested(), is(2500));
+        assertThat(result.deleted(), is(2499));
+        assertThat(cache.get(1L), is(nullValue()));
+        assertThat(cache.get(9999L, Person.class), is(notRequested));
+    }
+
+    private static DataIntegrityViolationException emailUniqueViolation() {
+        return new DataIntegrityViolationException("could not execute statement",
+                new RuntimeException("duplicate key value violates unique constraint \"uidx_person_email\""));
+    }
+
 }
@@ -0,0 +1,147 @@
+package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.mattcanovas.spring_boot_automatized_tests.entities.Person;
+import com.github.mattcanovas.spring_boot_automatized_tests.exceptions.PersonLookupTimeoutException;
+import com.github.mattcanovas.spring_boot_automatized_tests.factories.PersonFactory;
+import com.github.mattcanovas.spring_boot_automatized_tests.services.SingleFlight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SingleFlightTest {
+
+    private static final int FOLLOWERS = 8;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+    private final CountDownLatch loaderStarted = new CountDownLatch(1);
+
+    private final CountDownLatch releaseLoader = new CountDownLatch(1);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    public void shutdown() {
+        this.releaseLoader.countDown();
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void testGivenConcurrentCallsForSameKey_WhenExecute_ThenLoadOnceAndShareTheResult() throws Exception {
+        SingleFlight<Long, Person> flight = new SingleFlight<>("findById", Duration.ofSeconds(5), this.meterRegistry);
+        Person person = PersonFactory.createDefaultPerson();
+
+        List<Future<Person>> results = executeConcurrently(flight, () -> person);
+
+        for (Future<Person> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS), is(sameInstance(person)));
+        }
+        assertThat(this.loads.get(), is(1));
+        assertThat(count("executed"), is(1.0));
+        assertThat(count("coalesced"), is((double) FOLLOWERS));
+    }
+
+    @Test
+    public void testGivenFailingLoad_WhenExecuteConcurrently_ThenPropagateTheFailureToEveryCaller() throws Exception {
+        SingleFlight<Long, Person> flight = new SingleFlight<>("findById", Duration.ofSeconds(5), this.meterRegistry);
+        IllegalStateException failure = new IllegalStateException("Person with given id: 1 does not exist!");
+
+        List<Future<Person>> results = executeConcurrently(flight, () -> {
+            throw failure;
+        });
+
+        for (Future<Person> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertThat(exception.getCause(), is(sameInstance(failure)));
+        }
+        assertThat(this.loads.get(), is(1));
+    }
+
+    @Test
+    public void testGivenSlowLoad_WhenWaitingLongerThanTimeout_ThenThrownPersonLookupTimeoutException() throws Exception {
+        SingleFlight<Long, Person> flight = new SingleFlight<>("findById", Duration.ofMillis(50), this.meterRegistry);
+        this.executor.submit(() -> flight.execute(1L, this::blockingLoad));
+        assertThat(this.loaderStarted.await(5, TimeUnit.SECONDS), is(true));
+
+        assertThrows(PersonLookupTimeoutException.class, () -> flight.execute(1L, PersonFactory::createDefaultPerson));
+
+        assertThat(count("timed_out"), is(1.0));
+    }
+
+    @Test
+    public void testGivenSequentialCalls_WhenExecute_ThenLoadEveryTime() {
+        SingleFlight<Long, Person> flight = new SingleFlight<>("findById", Duration.ofSeconds(5), this.meterRegistry);
+
+        flight.execute(1L, PersonFactory::createDefaultPerson);
+        flight.execute(1L, PersonFactory::createDefaultPerson);
+
+        assertThat(count("executed"), is(2.0));
+        assertThat(count("coalesced"), is(0.0));
+    }
+
+    private List<Future<Person>> executeConcurrently(SingleFlight<Long, Person> flight, Loader loader) throws Exception {
+        List<Future<Person>> results = new ArrayList<>();
+        results.add(this.executor.submit(() -> flight.execute(1L, () -> {
+            blockingLoad();
+            return loader.load();
+        })));
+        assertThat(this.loaderStarted.await(5, TimeUnit.SECONDS), is(true));
+
+        for (int follower = 0; follower < FOLLOWERS; follower++) {
+            results.add(this.executor.submit(() -> flight.execute(1L, () -> {
+                this.loads.incrementAndGet();
+                return loader.load();
+            })));
+        }
+        // The leader is only released once every follower is waiting on it.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("coalesced") < FOLLOWERS && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        this.releaseLoader.countDown();
+        return results;
+    }
+
+    private Person blockingLoad() {
+        this.loads.incrementAndGet();
+        this.loaderStarted.countDown();
+        try {
+            this.releaseLoader.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private double count(String outcome) {
+        return this.meterRegistry.get(SingleFlight.METRIC_NAME).tag("outcome", outcome).counter().count();
+    }
+
+    @FunctionalInterface
+    private interface Loader {
+        Person load();
+    }
+
+}
@@ -3,12 +3,40 @@ package com.github.mattcanovas.spring_boot_automatized_tests.unitaries.suite;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 
+import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.configurations.PersonReplicaCachingTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.configurations.PersonReplicaRoutingTest;
 import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.controllers.PersonControllerTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.controllers.PersonReactiveControllerTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.filters.GradientConcurrencyLimitTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.filters.PersonConcurrencyLimitFilterTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.filters.PersonReadYourWritesFilterTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.repositories.PersonEmailMigrationTest;
 import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.repositories.PersonRepositoryTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.services.PersonExportServiceTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.services.PersonImportServiceTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.services.PersonReactiveServiceTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.services.PersonServiceCacheTest;
 import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.services.PersonServiceTest;
+import com.github.mattcanovas.spring_boot_automatized_tests.unitaries.services.SingleFlightTest;
 
 @Suite
-@SelectClasses({ PersonControllerTest.class, PersonServiceTest.class, PersonRepositoryTest.class })
+@SelectClasses({
+        PersonControllerTest.class,
+        PersonReactiveControllerTest.class,
+        PersonServiceTest.class,
+        PersonServiceCacheTest.class,
+        PersonExportServiceTest.class,
+        PersonImportServiceTest.class,
+        PersonReactiveServiceTest.class,
+        SingleFlightTest.class,
+        PersonRepositoryTest.class,
+        PersonEmailMigrationTest.class,
+        PersonReplicaRoutingTest.class,
+        PersonReplicaCachingTest.class,
+        PersonReadYourWritesFilterTest.class,
+        GradientConcurrencyLimitTest.class,
+        PersonConcurrencyLimitFilterTest.class
+})
 public class UnitariesSuite {
 
 }